@@ -0,0 +1,180 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de carga em loop fechado para comparar os modos de thread (plataforma × virtual).
+ * Executar sem compilar (Java 21):
+ *
+ *   java scripts/CargaHttp.java http://localhost:8080 200 30 0.2
+ *
+ * Argumentos: URL base, usuários simultâneos, duração em segundos e fração de escritas (POST).
+ * Imprime uma linha JSON com vazão, latências p50/p99 e contagem por status HTTP.
+ */
+public class CargaHttp {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Latências de um único usuário virtual (sem sincronização: cada usuário escreve só na sua)
+     */
+    private static final class Latencias {
+        long[] valores = new long[4096];
+        int tamanho;
+
+        void adicionar(long latencia) {
+            if (tamanho == valores.length) {
+                valores = Arrays.copyOf(valores, tamanho * 2);
+            }
+            valores[tamanho++] = latencia;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String base = args.length > 0 ? args[0] : "http://localhost:8080";
+        int usuarios = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        double fracaoEscrita = args.length > 3 ? Double.parseDouble(args[3]) : 0.2;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        AtomicBoolean rodando = new AtomicBoolean(true);
+        AtomicInteger sequencia = new AtomicInteger(ThreadLocalRandom.current().nextInt(1_000_000, 50_000_000));
+        AtomicLong maiorId = new AtomicLong(1);
+        ConcurrentHashMap<Integer, AtomicLong> porStatus = new ConcurrentHashMap<>();
+        List<Latencias> latenciasPorUsuario = new ArrayList<>();
+
+        long inicio = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < usuarios; u++) {
+                Latencias latencias = new Latencias();
+                latenciasPorUsuario.add(latencias);
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (rodando.get()) {
+                        HttpRequest request;
+                        if (random.nextDouble() < fracaoEscrita) {
+                            request = HttpRequest.newBuilder(URI.create(base + "/api/funcionarios"))
+                                    .timeout(TIMEOUT)
+                                    .header("Content-Type", "application/json")
+                                    .POST(HttpRequest.BodyPublishers.ofString(funcionario(sequencia.incrementAndGet())))
+                                    .build();
+                        } else if (random.nextBoolean()) {
+                            long id = 1 + random.nextLong(maiorId.get());
+                            request = HttpRequest.newBuilder(URI.create(base + "/api/funcionarios/" + id)).timeout(TIMEOUT).GET().build();
+                        } else {
+                            request = HttpRequest.newBuilder(URI.create(base + "/api/funcionarios?tamanho=20")).timeout(TIMEOUT).GET().build();
+                        }
+
+                        long t0 = System.nanoTime();
+                        int status;
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            status = response.statusCode();
+                            if (status == 201) {
+                                atualizarMaiorId(maiorId, response.body());
+                            }
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        long latencia = System.nanoTime() - t0;
+
+                        porStatus.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+                        latencias.adicionar(latencia);
+                    }
+                    return null;
+                });
+            }
+            Thread.sleep(Duration.ofSeconds(segundos));
+            rodando.set(false);
+        }
+        double decorrido = (System.nanoTime() - inicio) / 1e9;
+
+        int total = latenciasPorUsuario.stream().mapToInt(l -> l.tamanho).sum();
+        long[] todas = new long[total];
+        int pos = 0;
+        for (Latencias l : latenciasPorUsuario) {
+            System.arraycopy(l.valores, 0, todas, pos, l.tamanho);
+            pos += l.tamanho;
+        }
+        Arrays.sort(todas);
+
+        StringBuilder status = new StringBuilder();
+        porStatus.forEach((s, c) -> status.append(status.isEmpty() ? "" : ",")
+                .append('"').append(s).append("\":").append(c.get()));
+
+        System.out.printf("{\"usuarios\":%d,\"requisicoes\":%d,\"vazao\":%.1f,\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"status\":{%s}}%n",
+                usuarios, total, total / decorrido, percentil(todas, 0.50), percentil(todas, 0.99), status);
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        return ordenadas[(int) Math.min(ordenadas.length - 1, Math.ceil(p * ordenadas.length) - 1)] / 1e6;
+    }
+
+    private static void atualizarMaiorId(AtomicLong maiorId, String corpo) {
+        int i = corpo.indexOf("\"id\":");
+        if (i < 0) {
+            return;
+        }
+        int fim = i + 5;
+        while (fim < corpo.length() && Character.isDigit(corpo.charAt(fim))) {
+            fim++;
+        }
+        long id = Long.parseLong(corpo.substring(i + 5, fim));
+        maiorId.accumulateAndGet(id, Math::max);
+    }
+
+    private static String funcionario(int n) {
+        return """
+                {"cpf":"%s","nome":"Carga %d","dataNascimento":"1985-03-15","racaCor":"parda","sexo":"masculino",\
+                "nacionalidade":"brasileiro","estadoNascimento":"PE","cidadeNascimento":"Recife",\
+                "telefone":"(81) 99999-0000"}""".formatted(cpf(n), n);
+    }
+
+    /**
+     * CPF formatado (000.000.000-00) com dígitos verificadores válidos a partir de um número sequencial
+     */
+    private static String cpf(int n) {
+        int[] d = new int[11];
+        String base = String.format("%09d", n % 1_000_000_000);
+        for (int i = 0; i < 9; i++) {
+            d[i] = base.charAt(i) - '0';
+        }
+        for (int k = 9; k <= 10; k++) {
+            int soma = 0;
+            for (int i = 0; i < k; i++) {
+                soma += d[i] * (k + 1 - i);
+            }
+            int resto = (soma * 10) % 11;
+            d[k] = resto == 10 ? 0 : resto;
+        }
+        StringBuilder sb = new StringBuilder(14);
+        for (int i = 0; i < 11; i++) {
+            if (i == 3 || i == 6) {
+                sb.append('.');
+            } else if (i == 9) {
+                sb.append('-');
+            }
+            sb.append(d[i]);
+        }
+        return sb.toString();
+    }
+}
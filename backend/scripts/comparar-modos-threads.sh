@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Compara o modo de threads de plataforma com o de threads virtuais sob a mesma carga.
+# Pré-requisitos: Java 21, PostgreSQL do docker-compose no ar e `mvn package` executado.
+#
+#   scripts/comparar-modos-threads.sh [usuarios] [segundos] [fracao-escrita]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+USUARIOS=${1:-400}
+SEGUNDOS=${2:-30}
+FRACAO_ESCRITA=${3:-0.2}
+JAR=$(ls target/recadastramento-*.jar | head -n 1)
+PORTA=8080
+
+executar() {
+    local modo=$1
+    local profiles=$2
+
+    java -jar "$JAR" --spring.profiles.active="$profiles" --spring.jpa.show-sql=false \
+        --logging.level.com.ccm.recadastramento=INFO > "target/carga-$modo.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -sf "http://127.0.0.1:8081/actuator/health" > /dev/null; do
+        sleep 1
+    done
+
+    # aquecimento
+    java scripts/CargaHttp.java "http://localhost:$PORTA" 50 10 "$FRACAO_ESCRITA" > /dev/null
+    echo -n "$modo: "
+    java scripts/CargaHttp.java "http://localhost:$PORTA" "$USUARIOS" "$SEGUNDOS" "$FRACAO_ESCRITA"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+executar plataforma default
+executar virtual virtual
@@ -0,0 +1,20 @@
+#!/usr/bin/env bash
+# Gera o arquivo CDS (class data sharing) do jar de produção com uma execução de treino:
+# a aplicação sobe até o fim do refresh do contexto (spring.context.exit=onRefresh) e a JVM
+# grava as classes carregadas em target/producao/recadastramento.jsa.
+# Pré-requisitos: Java 21, PostgreSQL no ar (o Flyway e o Hibernate validam o esquema no treino)
+# e `mvn -Pproducao package` executado. Gerar de novo a cada build: o arquivo vale para um classpath.
+#
+#   scripts/gerar-cds.sh [argumentos da aplicação]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAR=$(ls target/producao/recadastramento-*-producao.jar | head -n 1)
+ARQUIVO=target/producao/recadastramento.jsa
+
+java -XX:ArchiveClassesAtExit="$ARQUIVO" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar "$JAR" "$@" > target/producao/treino-cds.log 2>&1
+
+echo "Arquivo CDS: $ARQUIVO ($(du -h "$ARQUIVO" | cut -f1))"
+echo "Execução: java -XX:SharedArchiveFile=$ARQUIVO -Dspring.aot.enabled=true -jar $JAR"
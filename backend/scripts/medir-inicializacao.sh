@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+# Mede o tempo até a aplicação ficar pronta (health UP no Actuator) em cada modo de execução:
+# jar executável, jar de produção com AOT, AOT + CDS e imagem nativa (quando existir).
+# Pré-requisitos: Java 21, PostgreSQL do docker-compose no ar e `mvn -Pproducao package` executado
+# (para o modo nativo, também `mvn -Pnative native:compile`).
+#
+#   scripts/medir-inicializacao.sh [repeticoes]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+REPETICOES=${1:-5}
+JAR=$(ls target/producao/recadastramento-*.jar | grep -v -- '-producao.jar' | head -n 1)
+JAR_PRODUCAO=$(ls target/producao/recadastramento-*-producao.jar | head -n 1)
+ARQUIVO_CDS=target/producao/recadastramento.jsa
+NATIVO=target/recadastramento
+ARGUMENTOS=(--spring.jpa.show-sql=false --logging.level.com.ccm.recadastramento=INFO)
+
+agora_ms() {
+    date +%s%3N
+}
+
+medir() {
+    local modo=$1
+    shift
+    local total=0
+    local menor=0
+
+    for _ in $(seq 1 "$REPETICOES"); do
+        local inicio
+        inicio=$(agora_ms)
+        "$@" "${ARGUMENTOS[@]}" > "target/producao/inicializacao-$modo.log" 2>&1 &
+        local pid=$!
+        trap 'kill $pid 2>/dev/null || true' EXIT
+
+        until curl -sf "http://127.0.0.1:8081/actuator/health" > /dev/null; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$modo: a aplicação terminou antes de ficar pronta (target/producao/inicializacao-$modo.log)"
+                return 1
+            fi
+            sleep 0.05
+        done
+        local decorrido=$(( $(agora_ms) - inicio ))
+        total=$(( total + decorrido ))
+        if (( menor == 0 || decorrido < menor )); then
+            menor=$decorrido
+        fi
+
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+        trap - EXIT
+    done
+
+    printf '%-8s média %6d ms   menor %6d ms   (%s)\n' "$modo" $(( total / REPETICOES )) "$menor" \
+        "$(grep -o 'Started .* in [0-9.]* seconds' "target/producao/inicializacao-$modo.log" | grep -o '[0-9.]* seconds')"
+}
+
+echo "Tempo até ficar pronto ($REPETICOES execuções por modo; entre parênteses, o informado pelo Spring na última)"
+medir jar java -jar "$JAR"
+medir aot java -Dspring.aot.enabled=true -jar "$JAR_PRODUCAO"
+
+if [[ ! -f "$ARQUIVO_CDS" || "$JAR_PRODUCAO" -nt "$ARQUIVO_CDS" ]]; then
+    scripts/gerar-cds.sh "${ARGUMENTOS[@]}" > /dev/null
+fi
+medir aot-cds java -XX:SharedArchiveFile="$ARQUIVO_CDS" -Dspring.aot.enabled=true -jar "$JAR_PRODUCAO"
+
+if [[ -x "$NATIVO" ]]; then
+    medir nativo "$NATIVO"
+else
+    echo "nativo   (sem $NATIVO: gerar com mvn -Pnative native:compile)"
+fi
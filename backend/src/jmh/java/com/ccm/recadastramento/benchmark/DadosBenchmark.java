@@ -0,0 +1,72 @@
+package com.ccm.recadastramento.benchmark;
+
+import com.ccm.recadastramento.RecadastramentoApplication;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+
+/**
+ * Utilitários compartilhados pelos benchmarks: contexto Spring sobre H2 e geração de dados
+ */
+final class DadosBenchmark {
+
+    private DadosBenchmark() {
+    }
+
+    /**
+     * Sobe a aplicação sem servidor web, sobre H2 em memória (modo PostgreSQL) e com o cache
+     * de consultas desligado, para que os benchmarks meçam o caminho até o banco.
+     * As propriedades vão como argumentos para prevalecer sobre o application.properties.
+     */
+    static ConfigurableApplicationContext iniciarContexto() {
+        return new SpringApplicationBuilder(RecadastramentoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.flyway.enabled=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--app.cache.funcionarios.tamanho-maximo=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.ccm.recadastramento=WARN");
+    }
+
+    /**
+     * CPF formatado e com dígitos verificadores válidos para o número informado
+     */
+    static String cpf(long numero) {
+        int[] d = new int[11];
+        long resto = numero % 1_000_000_000L;
+        for (int i = 8; i >= 0; i--) {
+            d[i] = (int) (resto % 10);
+            resto /= 10;
+        }
+        d[9] = digitoVerificador(d, 9);
+        d[10] = digitoVerificador(d, 10);
+        return String.format("%d%d%d.%d%d%d.%d%d%d-%d%d", d[0], d[1], d[2], d[3], d[4], d[5], d[6], d[7], d[8], d[9], d[10]);
+    }
+
+    static FuncionarioDTO funcionario(long numero) {
+        return new FuncionarioDTO(null, cpf(numero), "Funcionário " + numero, null,
+                LocalDate.of(1960, 1, 1).plusDays(numero % 15_000), numero % 2 == 0 ? "parda" : "branca",
+                numero % 2 == 0 ? "feminino" : "masculino", "brasileiro", "RO", "Porto Velho", "(69) 99999-9999", null);
+    }
+
+    private static int digitoVerificador(int[] d, int tamanho) {
+        int soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            soma += d[i] * (tamanho + 1 - i);
+        }
+        int resto = (soma * 10) % 11;
+        return resto == 10 ? 0 : resto;
+    }
+}
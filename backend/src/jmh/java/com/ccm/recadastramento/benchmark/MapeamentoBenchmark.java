@@ -0,0 +1,93 @@
+package com.ccm.recadastramento.benchmark;
+
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.entity.Contato;
+import com.ccm.recadastramento.entity.Funcionario;
+import com.ccm.recadastramento.mapper.ContatoMapper;
+import com.ccm.recadastramento.mapper.FuncionarioMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara os mappers manuais com o caminho anterior baseado em ModelMapper (reflexão)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapeamentoBenchmark {
+
+    private ModelMapper modelMapper;
+    private FuncionarioMapper funcionarioMapper;
+    private ContatoMapper contatoMapper;
+
+    private Funcionario funcionario;
+    private FuncionarioDTO funcionarioDTO;
+    private Contato contato;
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapper();
+        funcionarioMapper = new FuncionarioMapper();
+        contatoMapper = new ContatoMapper();
+
+        funcionario = new Funcionario(1L, "123.456.789-09", 12345678909L, "João da Silva", null, LocalDate.of(1990, 5, 15),
+                "parda", "masculino", "brasileiro", "RO", "Porto Velho", "(69) 99999-9999",
+                0L, LocalDateTime.now(), LocalDateTime.now());
+        funcionarioDTO = funcionarioMapper.toDTO(funcionario);
+        contato = new Contato(10L, funcionario, "email", "joao.silva@email.com", "Email pessoal", true,
+                0L, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Benchmark
+    public FuncionarioDTO funcionarioToDTOModelMapper() {
+        return modelMapper.map(funcionario, FuncionarioDTO.class);
+    }
+
+    @Benchmark
+    public FuncionarioDTO funcionarioToDTOMapper() {
+        return funcionarioMapper.toDTO(funcionario);
+    }
+
+    @Benchmark
+    public Funcionario funcionarioToEntityModelMapper() {
+        return modelMapper.map(funcionarioDTO, Funcionario.class);
+    }
+
+    @Benchmark
+    public Funcionario funcionarioToEntityMapper() {
+        return funcionarioMapper.toEntity(funcionarioDTO);
+    }
+
+    @Benchmark
+    public Funcionario funcionarioAtualizarModelMapper() {
+        modelMapper.map(funcionarioDTO, funcionario);
+        funcionario.setId(1L);
+        return funcionario;
+    }
+
+    @Benchmark
+    public Funcionario funcionarioAtualizarMapper() {
+        funcionarioMapper.atualizar(funcionarioDTO, funcionario);
+        return funcionario;
+    }
+
+    @Benchmark
+    public ContatoDTO contatoToDTOModelMapper() {
+        ContatoDTO dto = modelMapper.map(contato, ContatoDTO.class);
+        dto.setFuncionarioId(contato.getFuncionario().getId());
+        return dto;
+    }
+
+    @Benchmark
+    public ContatoDTO contatoToDTOMapper() {
+        return contatoMapper.toDTO(contato);
+    }
+}
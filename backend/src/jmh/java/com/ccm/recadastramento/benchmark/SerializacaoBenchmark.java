@@ -0,0 +1,99 @@
+package com.ccm.recadastramento.benchmark;
+
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.PaginaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Custo de serializar uma página da listagem em JSON, CBOR e Smile, com e sem gzip.
+ * O tamanho de cada payload é impresso no setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializacaoBenchmark {
+
+    @Param({"20", "100"})
+    private int tamanho;
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ObjectMapper smile;
+
+    private PaginaDTO<FuncionarioDTO> pagina;
+
+    @Setup
+    public void setup() throws IOException {
+        json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cbor = json.copyWith(new CBORFactory());
+        smile = json.copyWith(new SmileFactory());
+
+        List<FuncionarioDTO> itens = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            FuncionarioDTO dto = DadosBenchmark.funcionario(i);
+            dto.setId((long) i + 1);
+            dto.setVersao(0L);
+            itens.add(dto);
+        }
+        pagina = new PaginaDTO<>(itens, tamanho, "bm9tZXwxMjN8QW5hIFNvdXph");
+
+        System.out.printf("%n[tamanho=%d] json=%dB json+gzip=%dB cbor=%dB cbor+gzip=%dB smile=%dB smile+gzip=%dB%n",
+                tamanho, json().length, jsonGzip().length, cbor().length, cborGzip().length,
+                smile().length, smileGzip().length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        return gzip(json);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cbor.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] cborGzip() throws IOException {
+        return gzip(cbor);
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smile.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] smileGzip() throws IOException {
+        return gzip(smile);
+    }
+
+    private byte[] gzip(ObjectMapper mapper) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(8192);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            mapper.writeValue(gzip, pagina);
+        }
+        return saida.toByteArray();
+    }
+}
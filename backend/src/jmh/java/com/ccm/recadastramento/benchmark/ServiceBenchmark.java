@@ -0,0 +1,107 @@
+package com.ccm.recadastramento.benchmark;
+
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.LinhaImportacaoDTO;
+import com.ccm.recadastramento.dto.PaginaDTO;
+import com.ccm.recadastramento.entity.Contato;
+import com.ccm.recadastramento.repository.ContatoRepository;
+import com.ccm.recadastramento.repository.FuncionarioRepository;
+import com.ccm.recadastramento.service.ContatoService;
+import com.ccm.recadastramento.service.FuncionarioService;
+import com.ccm.recadastramento.service.ImportacaoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmarks dos services sobre H2 em memória, com a base populada por "quantidade" funcionários
+ * (dois contatos cada). Ex.: -p quantidade=100000
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    private static final int LOTE_CARGA = 10_000;
+
+    @Param({"1000", "10000"})
+    private int quantidade;
+
+    private ConfigurableApplicationContext contexto;
+    private FuncionarioService funcionarioService;
+    private ContatoService contatoService;
+
+    private long[] ids;
+    private final AtomicLong proximoNumero = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        contexto = DadosBenchmark.iniciarContexto();
+        funcionarioService = contexto.getBean(FuncionarioService.class);
+        contatoService = contexto.getBean(ContatoService.class);
+        ImportacaoService importacaoService = contexto.getBean(ImportacaoService.class);
+        FuncionarioRepository funcionarioRepository = contexto.getBean(FuncionarioRepository.class);
+        ContatoRepository contatoRepository = contexto.getBean(ContatoRepository.class);
+
+        ids = new long[quantidade];
+        for (int inicio = 0; inicio < quantidade; inicio += LOTE_CARGA) {
+            List<FuncionarioDTO> lote = new ArrayList<>();
+            for (int n = inicio; n < Math.min(inicio + LOTE_CARGA, quantidade); n++) {
+                lote.add(DadosBenchmark.funcionario(n + 1));
+            }
+            List<LinhaImportacaoDTO> linhas = importacaoService.importar(lote).getLinhas();
+            List<Contato> contatos = new ArrayList<>();
+            for (int j = 0; j < linhas.size(); j++) {
+                long id = linhas.get(j).getId();
+                ids[inicio + j] = id;
+                contatos.add(new Contato(null, funcionarioRepository.getReferenceById(id), "email",
+                        "funcionario" + id + "@email.com", null, true, null, LocalDateTime.now(), null));
+                contatos.add(new Contato(null, funcionarioRepository.getReferenceById(id), "celular",
+                        "(69) 99999-9999", null, false, null, LocalDateTime.now(), null));
+            }
+            contatoRepository.saveAll(contatos);
+        }
+        proximoNumero.set(quantidade + 1L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public PaginaDTO<FuncionarioDTO> listarPrimeiraPagina() {
+        return funcionarioService.listarPagina(null, FuncionarioService.TAMANHO_PAGINA_MAXIMO, "id");
+    }
+
+    @Benchmark
+    public PaginaDTO<FuncionarioDTO> listarPrimeiraPaginaPorNome() {
+        return funcionarioService.listarPagina(null, FuncionarioService.TAMANHO_PAGINA_MAXIMO, "nome");
+    }
+
+    @Benchmark
+    public FuncionarioDTO buscarPorCpf() {
+        long numero = ThreadLocalRandom.current().nextLong(quantidade) + 1;
+        return funcionarioService.buscarPorCpf(DadosBenchmark.cpf(numero));
+    }
+
+    @Benchmark
+    public FuncionarioDTO criar() {
+        return funcionarioService.criar(DadosBenchmark.funcionario(proximoNumero.getAndIncrement()));
+    }
+
+    @Benchmark
+    public List<ContatoDTO> listarContatosPorFuncionario() {
+        return contatoService.listarPorFuncionario(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+}
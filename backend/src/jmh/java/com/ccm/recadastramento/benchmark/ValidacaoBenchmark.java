@@ -0,0 +1,71 @@
+package com.ccm.recadastramento.benchmark;
+
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.validation.Documentos;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Custo isolado da Bean Validation de FuncionarioDTO (registro válido e registro com erros)
+ * e da verificação de CPF: regex de formato anterior × verificação com dígitos verificadores
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidacaoBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private static final Pattern FORMATO_CPF = Pattern.compile("\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}");
+
+    private FuncionarioDTO valido;
+    private FuncionarioDTO invalido;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        valido = DadosBenchmark.funcionario(123_456_789L);
+        invalido = DadosBenchmark.funcionario(123_456_789L);
+        invalido.setCpf("123.456.789");
+        invalido.setTelefone("69 99999-9999");
+        invalido.setSexo("outro");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<FuncionarioDTO>> validarFuncionarioValido() {
+        return validator.validate(valido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<FuncionarioDTO>> validarFuncionarioInvalido() {
+        return validator.validate(invalido);
+    }
+
+    @Benchmark
+    public boolean validarCpfRegex() {
+        return FORMATO_CPF.matcher(valido.getCpf()).matches();
+    }
+
+    @Benchmark
+    public boolean validarCpfDigitos() {
+        return Documentos.cpfValido(valido.getCpf());
+    }
+}
@@ -2,12 +2,16 @@ package com.ccm.recadastramento;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
 /**
  * Sistema de Recadastramento - CCM
- * Aplicação principal Spring Boot
+ * Aplicação principal Spring Boot.
+ * A autoconfiguração R2DBC fica desligada: o pool das leituras reativas é montado em ReativoConfig,
+ * sem interferir no DataSource e no gerenciador de transações do JPA.
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class RecadastramentoApplication {
 
     public static void main(String[] args) {
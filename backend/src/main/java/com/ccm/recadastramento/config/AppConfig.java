@@ -1,8 +1,11 @@
 package com.ccm.recadastramento.config;
 
-import org.modelmapper.ModelMapper;
+import com.ccm.recadastramento.logging.CorrelacaoFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -12,14 +15,6 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class AppConfig {
 
-    /**
-     * Bean do ModelMapper para conversão entre DTOs e Entidades
-     */
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
-
     /**
      * Configuração global de CORS
      */
@@ -32,8 +27,19 @@ public class AppConfig {
                         .allowedOrigins("*")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders(HttpHeaders.ETAG, HttpHeaders.RETRY_AFTER, CorrelacaoFilter.HEADER)
                         .maxAge(3600);
             }
         };
     }
+
+    /**
+     * Identificador de correlação no MDC antes de qualquer outro filtro, para que todos os logs da requisição o tenham
+     */
+    @Bean
+    public FilterRegistrationBean<CorrelacaoFilter> correlacaoFilter() {
+        FilterRegistrationBean<CorrelacaoFilter> registro = new FilterRegistrationBean<>(new CorrelacaoFilter());
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
 }
@@ -0,0 +1,40 @@
+package com.ccm.recadastramento.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cache local (Caffeine) das consultas de funcionário
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String FUNCIONARIOS_POR_ID = "funcionariosPorId";
+    public static final String FUNCIONARIOS_POR_CPF = "funcionariosPorCpf";
+
+    /**
+     * Caches limitados por tamanho e TTL, com estatísticas para as métricas cache.gets/cache.evictions.
+     * O proxy transacional adia puts e evicts para depois do commit, evitando que um rollback deixe
+     * no cache um valor que nunca foi gravado.
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.funcionarios.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${app.cache.funcionarios.ttl:10m}") Duration ttl) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(FUNCIONARIOS_POR_ID, FUNCIONARIOS_POR_CPF);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
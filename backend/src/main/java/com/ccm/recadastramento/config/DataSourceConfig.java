@@ -0,0 +1,53 @@
+package com.ccm.recadastramento.config;
+
+import com.ccm.recadastramento.datasource.ReplicasProperties;
+import com.ccm.recadastramento.datasource.RoteadorDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Roteamento de leituras para réplicas (app.datasource.replicas.habilitado=true).
+ * Desligado, o DataSource continua sendo o do auto-configure do Spring Boot.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicasProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "habilitado", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public RoteadorDataSource roteadorDataSource(DataSourceProperties dataSourceProperties,
+                                                 ReplicasProperties replicasProperties,
+                                                 Environment environment,
+                                                 MeterRegistry meterRegistry) {
+        // Primário: spring.datasource.* e spring.datasource.hikari.*, como no auto-configure
+        HikariDataSource primario = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primario));
+        if (primario.getPoolName() == null) {
+            primario.setPoolName("primario");
+        }
+        primario.setMetricRegistry(meterRegistry);
+
+        return new RoteadorDataSource(primario, replicasProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteadorDataSource roteadorDataSource) {
+        return new LazyConnectionDataSourceProxy(roteadorDataSource);
+    }
+}
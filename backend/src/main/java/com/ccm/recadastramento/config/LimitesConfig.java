@@ -0,0 +1,35 @@
+package com.ccm.recadastramento.config;
+
+import com.ccm.recadastramento.resilience.LimiteTaxaInterceptor;
+import com.ccm.recadastramento.resilience.LimiteTaxaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Limite de taxa por cliente nas rotas de escrita (app.limite-taxa.*)
+ */
+@Configuration
+@EnableConfigurationProperties(LimiteTaxaProperties.class)
+@ConditionalOnProperty(prefix = "app.limite-taxa", name = "habilitado", havingValue = "true", matchIfMissing = true)
+public class LimitesConfig {
+
+    @Bean
+    public LimiteTaxaInterceptor limiteTaxaInterceptor(LimiteTaxaProperties properties, MeterRegistry meterRegistry) {
+        return new LimiteTaxaInterceptor(properties, meterRegistry);
+    }
+
+    @Bean
+    public WebMvcConfigurer limiteTaxaConfigurer(LimiteTaxaInterceptor limiteTaxaInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(limiteTaxaInterceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
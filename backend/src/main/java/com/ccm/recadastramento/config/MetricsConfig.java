@@ -0,0 +1,45 @@
+package com.ccm.recadastramento.config;
+
+import com.ccm.recadastramento.metrics.ContadorSql;
+import com.ccm.recadastramento.metrics.MetricasSqlFilter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração de métricas (Micrometer): timers dos services, contagem de SQL por requisição
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Habilita @Timed nos services (métrica recadastramento.service, com tags class e method)
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Registra o contador de comandos SQL no Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer contadorSqlCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new ContadorSql());
+    }
+
+    @Bean
+    public FilterRegistrationBean<MetricasSqlFilter> metricasSqlFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.sql-por-requisicao.alerta:20}") int limiteAlerta) {
+        FilterRegistrationBean<MetricasSqlFilter> registro =
+                new FilterRegistrationBean<>(new MetricasSqlFilter(meterRegistry, limiteAlerta));
+        registro.addUrlPatterns("/api/*");
+        return registro;
+    }
+}
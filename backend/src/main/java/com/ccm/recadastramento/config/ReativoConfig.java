@@ -0,0 +1,55 @@
+package com.ccm.recadastramento.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Pool R2DBC das leituras reativas (profile "reativo").
+ * O ConnectionFactory não é exposto como bean: com um ConnectionFactory no contexto o Spring Boot
+ * deixaria de configurar o DataSource JDBC usado pelo JPA. Por isso a autoconfiguração R2DBC do
+ * Spring Boot fica desligada (RecadastramentoApplication) e só o DatabaseClient vira bean.
+ */
+@Configuration
+@EnableConfigurationProperties(ReativoProperties.class)
+@ConditionalOnProperty(prefix = "app.reativo", name = "habilitado", havingValue = "true")
+@Slf4j
+public class ReativoConfig {
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient databaseClientReativo(ReativoProperties properties) {
+        ConnectionFactoryOptions.Builder opcoes = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (properties.getUsername() != null) {
+            opcoes.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            opcoes.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(opcoes.build()))
+                .name("reativo")
+                .maxSize(properties.getTamanhoPool())
+                .maxAcquireTime(properties.getEsperaMaxima())
+                .build());
+        log.info("Leituras reativas habilitadas em {} (pool de {} conexões)",
+                properties.getUrl(), properties.getTamanhoPool());
+        return DatabaseClient.create(pool);
+    }
+
+    @PreDestroy
+    public void fecharPool() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
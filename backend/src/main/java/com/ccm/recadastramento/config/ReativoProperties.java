@@ -0,0 +1,33 @@
+package com.ccm.recadastramento.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Leituras reativas sobre R2DBC (app.reativo.*), expostas em /api/reativo/**.
+ * Usa um pool próprio, separado do HikariCP das rotas JPA.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.reativo")
+public class ReativoProperties {
+
+    private boolean habilitado = false;
+
+    /**
+     * URL R2DBC, ex.: r2dbc:postgresql://localhost:5432/recadastramento_db
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int tamanhoPool = 20;
+
+    /**
+     * Tempo máximo esperando conexão livre no pool
+     */
+    private Duration esperaMaxima = Duration.ofSeconds(5);
+}
@@ -5,11 +5,14 @@ import com.ccm.recadastramento.service.ContatoService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controller REST para Contatos
@@ -34,13 +37,23 @@ public class ContatoController {
     }
 
     /**
-     * GET /api/contatos/{id} - Busca contato por ID
+     * GET /api/contatos/funcionarios?ids=1,2,3 - Lista contatos de vários funcionários, agrupados por funcionário
+     */
+    @GetMapping("/funcionarios")
+    public ResponseEntity<Map<Long, List<ContatoDTO>>> listarPorFuncionarios(@RequestParam LinkedHashSet<Long> ids) {
+        log.info("GET /api/contatos/funcionarios - Listando contatos de {} funcionários", ids.size());
+        Map<Long, List<ContatoDTO>> contatos = contatoService.listarPorFuncionarios(ids);
+        return ResponseEntity.ok(contatos);
+    }
+
+    /**
+     * GET /api/contatos/{id} - Busca contato por ID (ETag; 304 com If-None-Match)
      */
     @GetMapping("/{id}")
     public ResponseEntity<ContatoDTO> buscarPorId(@PathVariable Long id) {
         log.info("GET /api/contatos/{} - Buscando contato", id);
         ContatoDTO contato = contatoService.buscarPorId(id);
-        return ResponseEntity.ok(contato);
+        return ResponseEntity.ok().eTag(ETags.de(contato.getVersao())).body(contato);
     }
 
     /**
@@ -50,28 +63,43 @@ public class ContatoController {
     public ResponseEntity<ContatoDTO> criar(@Valid @RequestBody ContatoDTO dto) {
         log.info("POST /api/contatos - Criando novo contato");
         ContatoDTO created = contatoService.criar(dto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(ETags.de(created.getVersao())).body(created);
     }
 
     /**
-     * PUT /api/contatos/{id} - Atualiza contato
+     * PUT /api/contatos/{id} - Atualiza contato (412 se If-Match não for a versão atual)
      */
     @PutMapping("/{id}")
     public ResponseEntity<ContatoDTO> atualizar(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ContatoDTO dto) {
         log.info("PUT /api/contatos/{} - Atualizando contato", id);
-        ContatoDTO updated = contatoService.atualizar(id, dto);
-        return ResponseEntity.ok(updated);
+        ContatoDTO updated = contatoService.atualizar(id, dto, ETags.versaoEsperada(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.de(updated.getVersao())).body(updated);
     }
 
     /**
-     * DELETE /api/contatos/{id} - Deleta contato
+     * PUT /api/contatos/{id}/principal - Define o contato como principal do seu tipo (rebaixa os demais)
+     */
+    @PutMapping("/{id}/principal")
+    public ResponseEntity<ContatoDTO> definirPrincipal(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PUT /api/contatos/{}/principal - Definindo contato principal", id);
+        ContatoDTO updated = contatoService.definirPrincipal(id, ETags.versaoEsperada(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.de(updated.getVersao())).body(updated);
+    }
+
+    /**
+     * DELETE /api/contatos/{id} - Deleta contato (412 se If-Match não for a versão atual)
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletar(@PathVariable Long id) {
+    public ResponseEntity<Void> deletar(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("DELETE /api/contatos/{} - Deletando contato", id);
-        contatoService.deletar(id);
+        contatoService.deletar(id, ETags.versaoEsperada(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
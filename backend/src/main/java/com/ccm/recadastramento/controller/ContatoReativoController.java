@@ -0,0 +1,57 @@
+package com.ccm.recadastramento.controller;
+
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.service.LeituraReativaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Leituras reativas de contatos (profile "reativo"), com os mesmos contratos de ContatoController
+ */
+@RestController
+@RequestMapping("/api/reativo/contatos")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(prefix = "app.reativo", name = "habilitado", havingValue = "true")
+public class ContatoReativoController {
+
+    private final LeituraReativaService leituraReativaService;
+
+    /**
+     * GET /api/reativo/contatos/funcionario/{funcionarioId} - Lista contatos de um funcionário
+     */
+    @GetMapping("/funcionario/{funcionarioId}")
+    public Mono<List<ContatoDTO>> listarPorFuncionario(@PathVariable Long funcionarioId) {
+        log.info("GET /api/reativo/contatos/funcionario/{} - Listando contatos", funcionarioId);
+        return leituraReativaService.listarContatos(funcionarioId).collectList();
+    }
+
+    /**
+     * GET /api/reativo/contatos/funcionario/{funcionarioId} com Accept: application/x-ndjson -
+     * um contato por linha, enviado à medida que chega do banco
+     */
+    @GetMapping(value = "/funcionario/{funcionarioId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ContatoDTO> transmitirPorFuncionario(@PathVariable Long funcionarioId) {
+        log.info("GET /api/reativo/contatos/funcionario/{} - Transmitindo contatos", funcionarioId);
+        return leituraReativaService.listarContatos(funcionarioId);
+    }
+
+    /**
+     * GET /api/reativo/contatos/{id} - Busca contato por ID (ETag; 304 com If-None-Match)
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ContatoDTO>> buscarPorId(@PathVariable Long id) {
+        log.info("GET /api/reativo/contatos/{} - Buscando contato", id);
+        return leituraReativaService.buscarContato(id)
+                .map(contato -> ResponseEntity.ok().eTag(ETags.de(contato.getVersao())).body(contato));
+    }
+}
@@ -0,0 +1,39 @@
+package com.ccm.recadastramento.controller;
+
+import com.ccm.recadastramento.exception.PreconditionFailedException;
+
+/**
+ * Conversão entre a versão (@Version) de um recurso e o seu ETag.
+ * Respostas GET com ETag recebem 304 automaticamente quando If-None-Match coincide;
+ * If-Match nas escritas é repassado ao service como versão esperada.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String de(Long versao) {
+        return "\"" + versao + "\"";
+    }
+
+    /**
+     * Versão esperada a partir do header If-Match; nula quando ausente ou "*"
+     */
+    static Long versaoEsperada(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        if (valor.length() >= 2 && valor.startsWith("\"") && valor.endsWith("\"")) {
+            valor = valor.substring(1, valor.length() - 1);
+        }
+        try {
+            return Long.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match não corresponde a nenhuma versão: " + ifMatch);
+        }
+    }
+}
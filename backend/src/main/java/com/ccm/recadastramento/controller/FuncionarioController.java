@@ -1,14 +1,36 @@
 package com.ccm.recadastramento.controller;
 
+import com.ccm.recadastramento.dto.AlteracaoAuditoriaDTO;
+import com.ccm.recadastramento.dto.FichaFuncionarioDTO;
+import com.ccm.recadastramento.dto.FiltroFuncionarioDTO;
 import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.PaginaDTO;
+import com.ccm.recadastramento.dto.ResultadoExclusaoDTO;
+import com.ccm.recadastramento.dto.ResultadoImportacaoDTO;
+import com.ccm.recadastramento.dto.ResultadoValidacaoDTO;
+import com.ccm.recadastramento.service.AuditoriaService;
+import com.ccm.recadastramento.service.ExportacaoService;
+import com.ccm.recadastramento.service.ExportacaoService.FormatoExportacao;
+import com.ccm.recadastramento.service.FichaFuncionarioService;
 import com.ccm.recadastramento.service.FuncionarioService;
+import com.ccm.recadastramento.service.ImportacaoService;
+import com.ccm.recadastramento.service.ValidacaoService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -22,35 +44,110 @@ import java.util.List;
 public class FuncionarioController {
 
     private final FuncionarioService funcionarioService;
+    private final ExportacaoService exportacaoService;
+    private final ImportacaoService importacaoService;
+    private final ValidacaoService validacaoService;
+    private final AuditoriaService auditoriaService;
+    private final FichaFuncionarioService fichaFuncionarioService;
 
     /**
-     * GET /api/funcionarios - Lista todos os funcionários
+     * GET /api/funcionarios?cursor=&tamanho=&ordenarPor=id|nome - Lista funcionários paginados por cursor
      */
     @GetMapping
-    public ResponseEntity<List<FuncionarioDTO>> listarTodos() {
-        log.info("GET /api/funcionarios - Listando todos os funcionários");
-        List<FuncionarioDTO> funcionarios = funcionarioService.listarTodos();
-        return ResponseEntity.ok(funcionarios);
+    public ResponseEntity<PaginaDTO<FuncionarioDTO>> listarPagina(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(defaultValue = "id") String ordenarPor) {
+        log.info("GET /api/funcionarios - Listando funcionários (ordenarPor: {}, tamanho: {})", ordenarPor, tamanho);
+        PaginaDTO<FuncionarioDTO> pagina = funcionarioService.listarPagina(cursor, tamanho, ordenarPor);
+        return ResponseEntity.ok(pagina);
     }
 
     /**
-     * GET /api/funcionarios/{id} - Busca funcionário por ID
+     * GET /api/funcionarios/busca?nome=&modoBuscaNome=PREFIXO|CONTEM&estadoNascimento=&cidadeNascimento=
+     * &sexo=&racaCor=&dataNascimentoInicio=&dataNascimentoFim=&cursor=&tamanho= - Busca funcionários por filtros
+     */
+    @GetMapping("/busca")
+    public ResponseEntity<PaginaDTO<FuncionarioDTO>> buscar(
+            @ModelAttribute FiltroFuncionarioDTO filtro,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho) {
+        log.info("GET /api/funcionarios/busca - Buscando funcionários por filtros");
+        PaginaDTO<FuncionarioDTO> pagina = funcionarioService.buscar(filtro, cursor, tamanho);
+        return ResponseEntity.ok(pagina);
+    }
+
+    /**
+     * GET /api/funcionarios/exportar?formato=ndjson|csv|cbor|smile - Exporta todos os funcionários com contatos
+     * (sem formato, escolhe pelo header Accept)
+     */
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(required = false) String formato,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FormatoExportacao formatoExportacao = formato != null
+                ? FormatoExportacao.de(formato)
+                : FormatoExportacao.deAccept(accept);
+        log.info("GET /api/funcionarios/exportar - Exportando cadastro em {}", formatoExportacao);
+        StreamingResponseBody body = out -> exportacaoService.exportar(formatoExportacao, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formatoExportacao.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"funcionarios." + formatoExportacao.getExtensao() + "\"")
+                .body(body);
+    }
+
+    /**
+     * GET /api/funcionarios/{id} - Busca funcionário por ID (ETag; 304 com If-None-Match)
      */
     @GetMapping("/{id}")
     public ResponseEntity<FuncionarioDTO> buscarPorId(@PathVariable Long id) {
         log.info("GET /api/funcionarios/{} - Buscando funcionário", id);
         FuncionarioDTO funcionario = funcionarioService.buscarPorId(id);
-        return ResponseEntity.ok(funcionario);
+        return ResponseEntity.ok().eTag(ETags.de(funcionario.getVersao())).body(funcionario);
+    }
+
+    /**
+     * GET /api/funcionarios/{id}/ficha - Funcionário com seus contatos numa única consulta
+     */
+    @GetMapping("/{id}/ficha")
+    public ResponseEntity<FichaFuncionarioDTO> buscarFichaPorId(@PathVariable Long id) {
+        log.info("GET /api/funcionarios/{}/ficha - Buscando ficha completa", id);
+        FichaFuncionarioDTO ficha = fichaFuncionarioService.buscarPorId(id);
+        return ResponseEntity.ok(ficha);
     }
 
     /**
-     * GET /api/funcionarios/cpf/{cpf} - Busca funcionário por CPF
+     * GET /api/funcionarios/cpf/{cpf}/ficha - Funcionário com seus contatos, por CPF, numa única consulta
+     */
+    @GetMapping("/cpf/{cpf}/ficha")
+    public ResponseEntity<FichaFuncionarioDTO> buscarFichaPorCpf(@PathVariable String cpf) {
+        log.info("GET /api/funcionarios/cpf/{}/ficha - Buscando ficha completa por CPF", cpf);
+        FichaFuncionarioDTO ficha = fichaFuncionarioService.buscarPorCpf(cpf);
+        return ResponseEntity.ok(ficha);
+    }
+
+    /**
+     * GET /api/funcionarios/{id}/historico?cursor=&tamanho= - Trilha de auditoria do funcionário e dos seus contatos
+     */
+    @GetMapping("/{id}/historico")
+    public ResponseEntity<PaginaDTO<AlteracaoAuditoriaDTO>> historico(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer tamanho) {
+        log.info("GET /api/funcionarios/{}/historico - Buscando histórico de alterações", id);
+        PaginaDTO<AlteracaoAuditoriaDTO> pagina = auditoriaService.historico(id, cursor, tamanho);
+        return ResponseEntity.ok(pagina);
+    }
+
+    /**
+     * GET /api/funcionarios/cpf/{cpf} - Busca funcionário por CPF (ETag; 304 com If-None-Match)
      */
     @GetMapping("/cpf/{cpf}")
     public ResponseEntity<FuncionarioDTO> buscarPorCpf(@PathVariable String cpf) {
         log.info("GET /api/funcionarios/cpf/{} - Buscando funcionário por CPF", cpf);
         FuncionarioDTO funcionario = funcionarioService.buscarPorCpf(cpf);
-        return ResponseEntity.ok(funcionario);
+        return ResponseEntity.ok().eTag(ETags.de(funcionario.getVersao())).body(funcionario);
     }
 
     /**
@@ -60,28 +157,95 @@ public class FuncionarioController {
     public ResponseEntity<FuncionarioDTO> criar(@Valid @RequestBody FuncionarioDTO dto) {
         log.info("POST /api/funcionarios - Criando novo funcionário");
         FuncionarioDTO created = funcionarioService.criar(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(ETags.de(created.getVersao())).body(created);
+    }
+
+    /**
+     * POST /api/funcionarios/ficha - Cria funcionário e contatos numa única transação
+     */
+    @PostMapping("/ficha")
+    public ResponseEntity<FichaFuncionarioDTO> criarFicha(@Valid @RequestBody FichaFuncionarioDTO ficha) {
+        log.info("POST /api/funcionarios/ficha - Criando ficha completa");
+        FichaFuncionarioDTO created = fichaFuncionarioService.criar(ficha);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
     /**
-     * PUT /api/funcionarios/{id} - Atualiza funcionário
+     * POST /api/funcionarios/importar - Importa funcionários em lote a partir de um array JSON
+     */
+    @PostMapping(value = "/importar", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResultadoImportacaoDTO> importar(@RequestBody List<FuncionarioDTO> dtos) {
+        log.info("POST /api/funcionarios/importar - Importando {} funcionários (JSON)", dtos.size());
+        ResultadoImportacaoDTO resultado = importacaoService.importar(dtos);
+        return ResponseEntity.ok(resultado);
+    }
+
+    /**
+     * POST /api/funcionarios/importar - Importa funcionários em lote a partir de um CSV com cabeçalho
+     */
+    @PostMapping(value = "/importar", consumes = "text/csv")
+    public ResponseEntity<ResultadoImportacaoDTO> importarCsv(InputStream body) throws IOException {
+        log.info("POST /api/funcionarios/importar - Importando funcionários (CSV)");
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        ResultadoImportacaoDTO resultado = importacaoService.importarCsv(reader);
+        return ResponseEntity.ok(resultado);
+    }
+
+    /**
+     * POST /api/funcionarios/validar - Valida funcionários em lote sem gravar (nem consultar o banco)
+     */
+    @PostMapping(value = "/validar", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResultadoValidacaoDTO> validar(@RequestBody List<FuncionarioDTO> dtos) {
+        log.info("POST /api/funcionarios/validar - Validando {} funcionários", dtos.size());
+        return ResponseEntity.ok(validacaoService.validar(dtos));
+    }
+
+    /**
+     * PUT /api/funcionarios/{id} - Atualiza funcionário (412 se If-Match não for a versão atual)
      */
     @PutMapping("/{id}")
     public ResponseEntity<FuncionarioDTO> atualizar(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody FuncionarioDTO dto) {
         log.info("PUT /api/funcionarios/{} - Atualizando funcionário", id);
-        FuncionarioDTO updated = funcionarioService.atualizar(id, dto);
-        return ResponseEntity.ok(updated);
+        FuncionarioDTO updated = funcionarioService.atualizar(id, dto, ETags.versaoEsperada(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.de(updated.getVersao())).body(updated);
+    }
+
+    /**
+     * PUT /api/funcionarios/{id}/ficha - Atualiza funcionário e substitui seus contatos numa única transação
+     * (If-Match: versão do funcionário; versão de cada contato no corpo)
+     */
+    @PutMapping("/{id}/ficha")
+    public ResponseEntity<FichaFuncionarioDTO> atualizarFicha(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody FichaFuncionarioDTO ficha) {
+        log.info("PUT /api/funcionarios/{}/ficha - Atualizando ficha completa", id);
+        FichaFuncionarioDTO updated = fichaFuncionarioService.atualizar(id, ficha, ETags.versaoEsperada(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.de(updated.getFuncionario().getVersao())).body(updated);
     }
 
     /**
-     * DELETE /api/funcionarios/{id} - Deleta funcionário
+     * DELETE /api/funcionarios?ids=1,2,3 - Deleta vários funcionários (e seus contatos) numa única transação
+     */
+    @DeleteMapping
+    public ResponseEntity<ResultadoExclusaoDTO> deletarEmLote(@RequestParam LinkedHashSet<Long> ids) {
+        log.info("DELETE /api/funcionarios - Deletando {} funcionários em lote", ids.size());
+        ResultadoExclusaoDTO resultado = funcionarioService.deletarEmLote(ids);
+        return ResponseEntity.ok(resultado);
+    }
+
+    /**
+     * DELETE /api/funcionarios/{id} - Deleta funcionário (412 se If-Match não for a versão atual)
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletar(@PathVariable Long id) {
+    public ResponseEntity<Void> deletar(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("DELETE /api/funcionarios/{} - Deletando funcionário", id);
-        funcionarioService.deletar(id);
+        funcionarioService.deletar(id, ETags.versaoEsperada(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,68 @@
+package com.ccm.recadastramento.controller;
+
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.PaginaDTO;
+import com.ccm.recadastramento.service.LeituraReativaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Leituras reativas de funcionários (profile "reativo"), com os mesmos contratos de FuncionarioController
+ */
+@RestController
+@RequestMapping("/api/reativo/funcionarios")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(prefix = "app.reativo", name = "habilitado", havingValue = "true")
+public class FuncionarioReativoController {
+
+    private final LeituraReativaService leituraReativaService;
+
+    /**
+     * GET /api/reativo/funcionarios?cursor=&tamanho=&ordenarPor=id|nome - Lista funcionários paginados por cursor
+     */
+    @GetMapping
+    public Mono<PaginaDTO<FuncionarioDTO>> listarPagina(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(defaultValue = "id") String ordenarPor) {
+        log.info("GET /api/reativo/funcionarios - Listando funcionários (ordenarPor: {}, tamanho: {})", ordenarPor, tamanho);
+        return leituraReativaService.listarPagina(cursor, tamanho, ordenarPor);
+    }
+
+    /**
+     * GET /api/reativo/funcionarios/stream - Todos os funcionários em NDJSON, lidos do banco conforme o cliente consome
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<FuncionarioDTO> transmitirTodos() {
+        log.info("GET /api/reativo/funcionarios/stream - Transmitindo funcionários");
+        return leituraReativaService.transmitirTodos();
+    }
+
+    /**
+     * GET /api/reativo/funcionarios/{id} - Busca funcionário por ID (ETag; 304 com If-None-Match)
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<FuncionarioDTO>> buscarPorId(@PathVariable Long id) {
+        log.info("GET /api/reativo/funcionarios/{} - Buscando funcionário", id);
+        return leituraReativaService.buscarPorId(id)
+                .map(funcionario -> ResponseEntity.ok().eTag(ETags.de(funcionario.getVersao())).body(funcionario));
+    }
+
+    /**
+     * GET /api/reativo/funcionarios/cpf/{cpf} - Busca funcionário por CPF (ETag; 304 com If-None-Match)
+     */
+    @GetMapping("/cpf/{cpf}")
+    public Mono<ResponseEntity<FuncionarioDTO>> buscarPorCpf(@PathVariable String cpf) {
+        log.info("GET /api/reativo/funcionarios/cpf/{} - Buscando funcionário por CPF", cpf);
+        return leituraReativaService.buscarPorCpf(cpf)
+                .map(funcionario -> ResponseEntity.ok().eTag(ETags.de(funcionario.getVersao())).body(funcionario));
+    }
+}
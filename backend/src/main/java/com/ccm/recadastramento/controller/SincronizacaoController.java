@@ -0,0 +1,57 @@
+package com.ccm.recadastramento.controller;
+
+import com.ccm.recadastramento.dto.AlteracoesDTO;
+import com.ccm.recadastramento.exception.ServiceUnavailableException;
+import com.ccm.recadastramento.service.FeedAlteracoes;
+import com.ccm.recadastramento.service.SincronizacaoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controller REST da sincronização incremental e do feed de alterações
+ */
+@RestController
+@RequestMapping("/api/sincronizacao")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class SincronizacaoController {
+
+    private final SincronizacaoService sincronizacaoService;
+    private final FeedAlteracoes feedAlteracoes;
+
+    /**
+     * GET /api/sincronizacao/alteracoes?cursor=&tamanho= - Funcionários, contatos e exclusões desde o cursor
+     */
+    @GetMapping("/alteracoes")
+    public ResponseEntity<AlteracoesDTO> alteracoes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho) {
+        log.info("GET /api/sincronizacao/alteracoes - Sincronização incremental (tamanho: {})", tamanho);
+        AlteracoesDTO alteracoes = sincronizacaoService.alteracoes(cursor, tamanho);
+        return ResponseEntity.ok(alteracoes);
+    }
+
+    /**
+     * GET /api/sincronizacao/eventos - Feed de alterações em Server-Sent Events (503 quando não há vagas)
+     */
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> eventos() {
+        log.info("GET /api/sincronizacao/eventos - Inscrição no feed de alterações");
+        try {
+            return ResponseEntity.ok(feedAlteracoes.inscrever());
+        } catch (ServiceUnavailableException e) {
+            // o cliente aceita só text/event-stream: responde sem o corpo JSON do GlobalExceptionHandler
+            log.warn("Feed de alterações: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSegundos()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ccm.recadastramento.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+
+/**
+ * Uma réplica de leitura: o pool de conexões e o estado da última verificação
+ */
+@Getter
+class ReplicaLeitura {
+
+    private final String nome;
+    private final HikariDataSource dataSource;
+
+    private volatile boolean disponivel = true;
+    private volatile double atrasoSegundos;
+
+    ReplicaLeitura(String nome, HikariDataSource dataSource) {
+        this.nome = nome;
+        this.dataSource = dataSource;
+    }
+
+    int conexoesAtivas() {
+        return dataSource.getHikariPoolMXBean() == null ? 0 : dataSource.getHikariPoolMXBean().getActiveConnections();
+    }
+
+    void atualizar(boolean disponivel, double atrasoSegundos) {
+        this.disponivel = disponivel;
+        this.atrasoSegundos = atrasoSegundos;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ccm.recadastramento.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas de leitura (app.datasource.replicas.*).
+ * Transações somente leitura vão para uma réplica disponível; escritas, e leituras quando nenhuma
+ * réplica está disponível, vão para o primário (spring.datasource.*).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public class ReplicasProperties {
+
+    public enum Estrategia { ROUND_ROBIN, MENOS_CONEXOES }
+
+    private boolean habilitado = false;
+
+    private Estrategia estrategia = Estrategia.ROUND_ROBIN;
+
+    /**
+     * Réplica com atraso maior que este fica fora do roteamento até alcançar o primário
+     */
+    private Duration atrasoMaximo = Duration.ofSeconds(10);
+
+    private Duration intervaloVerificacao = Duration.ofSeconds(5);
+
+    /**
+     * Consulta que devolve o atraso da réplica em segundos. O padrão é para PostgreSQL em streaming
+     * replication (zero quando a réplica já aplicou tudo o que recebeu, mesmo com o primário ocioso)
+     */
+    private String consultaAtraso = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    /**
+     * Tamanho do pool de cada réplica; nulo usa o mesmo do primário
+     */
+    private Integer tamanhoPool;
+
+    private List<Replica> lista = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,195 @@
+package com.ccm.recadastramento.datasource;
+
+import com.ccm.recadastramento.datasource.ReplicasProperties.Estrategia;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que envia transações somente leitura para as réplicas e o resto para o primário.
+ * Deve ficar atrás de um LazyConnectionDataSourceProxy: a conexão só é pedida no primeiro comando,
+ * quando a transação já está marcada como somente leitura.
+ * Uma verificação periódica tira do roteamento a réplica que não responde ou está atrasada demais;
+ * sem réplica disponível (ou se a conexão falhar), a leitura vai para o primário.
+ */
+@Slf4j
+public class RoteadorDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final String PRIMARIO = "primario";
+
+    private final HikariDataSource primario;
+    private final List<ReplicaLeitura> replicas;
+    private final Estrategia estrategia;
+    private final double atrasoMaximoSegundos;
+    private final String consultaAtraso;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final ScheduledExecutorService verificador;
+    private final Counter leiturasPrimario;
+    private final Map<String, Counter> leiturasReplica = new HashMap<>();
+
+    public RoteadorDataSource(HikariDataSource primario, ReplicasProperties properties, MeterRegistry meterRegistry) {
+        this.primario = primario;
+        this.replicas = criarReplicas(primario, properties, meterRegistry);
+        this.estrategia = properties.getEstrategia();
+        this.atrasoMaximoSegundos = properties.getAtrasoMaximo().toMillis() / 1000.0;
+        this.consultaAtraso = properties.getConsultaAtraso();
+        this.leiturasPrimario = leituras(meterRegistry, PRIMARIO);
+
+        for (ReplicaLeitura replica : this.replicas) {
+            leiturasReplica.put(replica.getNome(), leituras(meterRegistry, replica.getNome()));
+            Gauge.builder("recadastramento.datasource.replica.disponivel", replica, r -> r.isDisponivel() ? 1 : 0)
+                    .tag("replica", replica.getNome())
+                    .register(meterRegistry);
+            Gauge.builder("recadastramento.datasource.replica.atraso", replica, ReplicaLeitura::getAtrasoSegundos)
+                    .tag("replica", replica.getNome())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        this.verificador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "verificador-replicas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalo = properties.getIntervaloVerificacao().toMillis();
+        verificador.scheduleWithFixedDelay(this::verificarReplicas, 0, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Um pool por réplica, com a mesma configuração do primário (exceto URL, credenciais e tamanho)
+     */
+    private static List<ReplicaLeitura> criarReplicas(HikariDataSource primario, ReplicasProperties properties,
+                                                      MeterRegistry meterRegistry) {
+        List<ReplicaLeitura> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getLista().size(); i++) {
+            ReplicasProperties.Replica replica = properties.getLista().get(i);
+            HikariConfig config = new HikariConfig();
+            primario.copyStateTo(config);
+            config.setJdbcUrl(replica.getUrl());
+            config.setUsername(replica.getUsername() != null ? replica.getUsername() : primario.getUsername());
+            config.setPassword(replica.getPassword() != null ? replica.getPassword() : primario.getPassword());
+            config.setPoolName("replica-" + i);
+            config.setReadOnly(true);
+            // Réplica fora do ar não impede a aplicação de subir
+            config.setInitializationFailTimeout(-1);
+            if (properties.getTamanhoPool() != null) {
+                config.setMaximumPoolSize(properties.getTamanhoPool());
+                config.setMinimumIdle(Math.min(config.getMinimumIdle(), properties.getTamanhoPool()));
+            }
+            config.setMetricRegistry(meterRegistry);
+            replicas.add(new ReplicaLeitura(config.getPoolName(), new HikariDataSource(config)));
+        }
+        if (replicas.isEmpty()) {
+            log.warn("Roteamento de leituras habilitado sem réplicas configuradas; tudo irá para o primário");
+        }
+        return List.copyOf(replicas);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+            return primario.getConnection();
+        }
+        ReplicaLeitura replica = selecionarReplica();
+        if (replica == null) {
+            leiturasPrimario.increment();
+            return primario.getConnection();
+        }
+        try {
+            Connection connection = replica.getDataSource().getConnection();
+            leiturasReplica.get(replica.getNome()).increment();
+            return connection;
+        } catch (SQLException e) {
+            log.warn("Réplica {} indisponível, leitura enviada ao primário: {}", replica.getNome(), e.getMessage());
+            replica.atualizar(false, replica.getAtrasoSegundos());
+            leiturasPrimario.increment();
+            return primario.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credenciais são definidas por pool");
+    }
+
+    private ReplicaLeitura selecionarReplica() {
+        if (estrategia == Estrategia.MENOS_CONEXOES) {
+            ReplicaLeitura escolhida = null;
+            for (ReplicaLeitura replica : replicas) {
+                if (replica.isDisponivel()
+                        && (escolhida == null || replica.conexoesAtivas() < escolhida.conexoesAtivas())) {
+                    escolhida = replica;
+                }
+            }
+            return escolhida;
+        }
+        int inicio = Math.floorMod(proxima.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaLeitura replica = replicas.get((inicio + i) % replicas.size());
+            if (replica.isDisponivel()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void verificarReplicas() {
+        for (ReplicaLeitura replica : replicas) {
+            boolean estavaDisponivel = replica.isDisponivel();
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(consultaAtraso)) {
+                double atraso = rs.next() ? rs.getDouble(1) : 0;
+                boolean disponivel = atraso <= atrasoMaximoSegundos;
+                replica.atualizar(disponivel, atraso);
+                if (estavaDisponivel && !disponivel) {
+                    log.warn("Réplica {} atrasada {}s (máximo {}s), fora do roteamento",
+                            replica.getNome(), atraso, atrasoMaximoSegundos);
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.atualizar(false, replica.getAtrasoSegundos());
+                if (estavaDisponivel) {
+                    log.warn("Réplica {} indisponível, fora do roteamento: {}", replica.getNome(), e.getMessage());
+                }
+            }
+            if (!estavaDisponivel && replica.isDisponivel()) {
+                log.info("Réplica {} de volta ao roteamento", replica.getNome());
+            }
+        }
+    }
+
+    private static Counter leituras(MeterRegistry meterRegistry, String destino) {
+        return Counter.builder("recadastramento.datasource.leituras")
+                .description("Conexões de transações somente leitura por destino")
+                .tag("destino", destino)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        verificador.shutdownNow();
+        for (ReplicaLeitura replica : replicas) {
+            replica.getDataSource().close();
+        }
+        primario.close();
+    }
+}
@@ -0,0 +1,28 @@
+package com.ccm.recadastramento.dto;
+
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Entidade;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Operacao;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de uma alteração no histórico de um funcionário
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlteracaoAuditoriaDTO {
+
+    private Long id;
+    private Entidade entidade;
+    private Long entidadeId;
+    private Operacao operacao;
+    private String campo;
+    private String valorAnterior;
+    private String valorNovo;
+    private String usuario;
+    private LocalDateTime dataHora;
+}
@@ -0,0 +1,33 @@
+package com.ccm.recadastramento.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO da sincronização incremental: funcionários e contatos criados ou alterados e exclusões
+ * ocorridos depois do cursor informado
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlteracoesDTO {
+
+    private List<FuncionarioDTO> funcionarios;
+
+    private List<ContatoDTO> contatos;
+
+    private List<ExclusaoDTO> exclusoes;
+
+    /**
+     * Cursor opaco da próxima chamada; sempre presente, o cliente guarda o último recebido
+     */
+    private String proximoCursor;
+
+    /**
+     * Verdadeiro quando alguma das listas foi cortada no tamanho pedido: chamar de novo com proximoCursor
+     */
+    private boolean temMais;
+}
@@ -0,0 +1,24 @@
+package com.ccm.recadastramento.dto;
+
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Entidade;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Operacao;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de um aviso do feed de alterações (SSE): qual registro mudou, sem os dados dele
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvisoAlteracaoDTO {
+
+    private Entidade entidade;
+
+    private Operacao operacao;
+
+    private Long id;
+
+    private Long funcionarioId;
+}
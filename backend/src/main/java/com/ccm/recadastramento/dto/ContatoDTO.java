@@ -30,4 +30,10 @@ public class ContatoDTO {
     private String descricao;
 
     private Boolean principal;
+
+    /**
+     * Ignorada nas escritas de contato (a versão esperada vem do header If-Match). Na escrita da ficha
+     * (PUT /api/funcionarios/{id}/ficha) é a versão esperada de cada contato existente, verificada como no If-Match.
+     */
+    private Long versao;
 }
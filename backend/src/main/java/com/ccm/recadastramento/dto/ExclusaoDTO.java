@@ -0,0 +1,29 @@
+package com.ccm.recadastramento.dto;
+
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Entidade;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de uma exclusão informada na sincronização incremental.
+ * A exclusão de um funcionário implica a de todos os contatos dele.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExclusaoDTO {
+
+    private Entidade entidade;
+
+    /**
+     * ID do funcionário ou do contato excluído
+     */
+    private Long id;
+
+    private Long funcionarioId;
+
+    private LocalDateTime excluidoEm;
+}
@@ -0,0 +1,25 @@
+package com.ccm.recadastramento.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com os dados de um funcionário e seus contatos.
+ * Nas escritas, os contatos são validados no service, depois de associados ao funcionário.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FichaFuncionarioDTO {
+
+    @Valid
+    @NotNull(message = "Funcionário é obrigatório")
+    private FuncionarioDTO funcionario;
+
+    private List<ContatoDTO> contatos;
+}
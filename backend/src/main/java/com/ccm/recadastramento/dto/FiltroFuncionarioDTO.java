@@ -0,0 +1,40 @@
+package com.ccm.recadastramento.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * DTO com os filtros da busca de funcionários (todos opcionais, combinados com E)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiltroFuncionarioDTO {
+
+    public enum ModoBuscaNome { PREFIXO, CONTEM }
+
+    /**
+     * Trecho do nome, comparado sem acentos e sem diferenciar maiúsculas
+     */
+    private String nome;
+
+    private ModoBuscaNome modoBuscaNome = ModoBuscaNome.CONTEM;
+
+    private String estadoNascimento;
+
+    private String cidadeNascimento;
+
+    private String sexo;
+
+    private String racaCor;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataNascimentoInicio;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataNascimentoFim;
+}
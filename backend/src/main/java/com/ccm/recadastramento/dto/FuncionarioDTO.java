@@ -1,5 +1,7 @@
 package com.ccm.recadastramento.dto;
 
+import com.ccm.recadastramento.validation.Cpf;
+import com.ccm.recadastramento.validation.Telefone;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,7 +20,7 @@ public class FuncionarioDTO {
     private Long id;
 
     @NotBlank(message = "CPF é obrigatório")
-    @Pattern(regexp = "\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}", message = "CPF inválido")
+    @Cpf
     private String cpf;
 
     @NotBlank(message = "Nome é obrigatório")
@@ -51,6 +53,12 @@ public class FuncionarioDTO {
     private String cidadeNascimento;
 
     @NotBlank(message = "Telefone é obrigatório")
-    @Pattern(regexp = "\\(\\d{2}\\) \\d{5}-\\d{4}")
+    @Telefone
     private String telefone;
+
+    /**
+     * Somente leitura: ignorada nas escritas, inclusive na da ficha (a versão esperada vem do header
+     * If-Match). Na ficha, a dos contatos vem do corpo: a versao de cada ContatoDTO é a esperada.
+     */
+    private Long versao;
 }
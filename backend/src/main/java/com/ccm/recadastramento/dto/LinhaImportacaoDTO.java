@@ -0,0 +1,37 @@
+package com.ccm.recadastramento.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO com o resultado de um registro da importação em lote
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LinhaImportacaoDTO {
+
+    public enum Status { IMPORTADO, INVALIDO, DUPLICADO }
+
+    /**
+     * Posição do registro na entrada (1 = primeiro registro)
+     */
+    private int posicao;
+
+    private String cpf;
+
+    private Status status;
+
+    /**
+     * ID gerado quando o registro foi importado
+     */
+    private Long id;
+
+    /**
+     * Erros por campo quando o registro foi rejeitado
+     */
+    private Map<String, String> erros;
+}
@@ -0,0 +1,25 @@
+package com.ccm.recadastramento.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para páginas navegadas por cursor (keyset)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaDTO<T> {
+
+    private List<T> itens;
+
+    private int tamanho;
+
+    /**
+     * Cursor opaco para buscar a próxima página; nulo quando não há mais registros
+     */
+    private String proximoCursor;
+}
@@ -0,0 +1,26 @@
+package com.ccm.recadastramento.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com o resultado de uma exclusão em lote de funcionários
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoExclusaoDTO {
+
+    /**
+     * IDs excluídos, em ordem crescente
+     */
+    private List<Long> excluidos;
+
+    /**
+     * IDs informados que não existiam (ignorados)
+     */
+    private List<Long> naoEncontrados;
+}
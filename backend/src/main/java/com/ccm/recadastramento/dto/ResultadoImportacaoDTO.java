@@ -0,0 +1,24 @@
+package com.ccm.recadastramento.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com o relatório de uma importação em lote de funcionários
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoImportacaoDTO {
+
+    private int total;
+
+    private int importados;
+
+    private int rejeitados;
+
+    private List<LinhaImportacaoDTO> linhas;
+}
@@ -0,0 +1,27 @@
+package com.ccm.recadastramento.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com o relatório de uma validação em lote de funcionários (sem gravação)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoValidacaoDTO {
+
+    private int total;
+
+    private int validos;
+
+    private int invalidos;
+
+    /**
+     * Apenas os registros rejeitados, no mesmo formato da importação
+     */
+    private List<LinhaImportacaoDTO> linhas;
+}
@@ -0,0 +1,69 @@
+package com.ccm.recadastramento.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade AlteracaoAuditoria
+ * Uma linha da trilha de auditoria: quem alterou qual campo de um funcionário ou contato, e quando.
+ * A tabela é somente inserção.
+ */
+@Entity
+@Immutable
+@Table(name = "auditoria_alteracoes", indexes = {
+        @Index(name = "idx_auditoria_funcionario_id", columnList = "funcionario_id, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlteracaoAuditoria {
+
+    public enum Entidade { FUNCIONARIO, CONTATO }
+
+    public enum Operacao { CRIACAO, ALTERACAO, EXCLUSAO }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auditoria_alteracoes_seq")
+    @SequenceGenerator(name = "auditoria_alteracoes_seq", sequenceName = "auditoria_alteracoes_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Entidade entidade;
+
+    @Column(name = "entidade_id", nullable = false)
+    private Long entidadeId;
+
+    @Column(name = "funcionario_id", nullable = false)
+    private Long funcionarioId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Operacao operacao;
+
+    /**
+     * Nulo em criações e exclusões
+     */
+    @Column(length = 50)
+    private String campo;
+
+    @Column(name = "valor_anterior", length = 500)
+    private String valorAnterior;
+
+    @Column(name = "valor_novo", length = 500)
+    private String valorNovo;
+
+    @Column(nullable = false, length = 100)
+    private String usuario;
+
+    /**
+     * Momento da alteração (capturado na requisição, não na gravação em lote)
+     */
+    @Column(name = "data_hora", nullable = false)
+    private LocalDateTime dataHora;
+}
@@ -1,11 +1,12 @@
 package com.ccm.recadastramento.entity;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -15,27 +16,32 @@ import java.time.LocalDateTime;
  * Representa os contatos de um funcionário (email, telefone, etc)
  */
 @Entity
-@Table(name = "contatos")
+@Table(name = "contatos", indexes = {
+        @Index(name = "idx_contatos_funcionario_id", columnList = "funcionario_id, id"),
+        @Index(name = "idx_contatos_atualizado_em_id", columnList = "atualizado_em, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Contato {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contatos_seq")
+    @SequenceGenerator(name = "contatos_seq", sequenceName = "contatos_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Excluído pelo banco junto com o funcionário (ON DELETE CASCADE)
+     */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "funcionario_id", nullable = false)
+    @JoinColumn(name = "funcionario_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_contatos_funcionario"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Funcionario funcionario;
 
-    @NotBlank(message = "Tipo de contato é obrigatório")
-    @Pattern(regexp = "email|celular|telefone", message = "Tipo deve ser: email, celular ou telefone")
     @Column(nullable = false, length = 20)
     private String tipo;
 
-    @NotBlank(message = "Valor do contato é obrigatório")
-    @Size(max = 100, message = "Valor deve ter no máximo 100 caracteres")
     @Column(nullable = false, length = 100)
     private String valor;
 
@@ -45,6 +51,13 @@ public class Contato {
     @Column(nullable = false)
     private Boolean principal = false;
 
+    /**
+     * Versão para controle de concorrência otimista (exposta como ETag)
+     */
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     @CreationTimestamp
     @Column(name = "criado_em", nullable = false, updatable = false)
     private LocalDateTime criadoEm;
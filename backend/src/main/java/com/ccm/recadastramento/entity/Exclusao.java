@@ -0,0 +1,44 @@
+package com.ccm.recadastramento.entity;
+
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Entidade;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade Exclusao
+ * Registro (tombstone) de um funcionário ou contato excluído, para que a sincronização incremental
+ * informe a exclusão aos clientes. Gravada na mesma transação da exclusão.
+ */
+@Entity
+@Immutable
+@Table(name = "exclusoes", indexes = {
+        @Index(name = "idx_exclusoes_excluido_em_id", columnList = "excluido_em, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Exclusao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exclusoes_seq")
+    @SequenceGenerator(name = "exclusoes_seq", sequenceName = "exclusoes_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Entidade entidade;
+
+    @Column(name = "entidade_id", nullable = false)
+    private Long entidadeId;
+
+    @Column(name = "funcionario_id", nullable = false)
+    private Long funcionarioId;
+
+    @Column(name = "excluido_em", nullable = false)
+    private LocalDateTime excluidoEm;
+}
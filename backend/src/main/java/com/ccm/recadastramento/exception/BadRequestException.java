@@ -0,0 +1,11 @@
+package com.ccm.recadastramento.exception;
+
+/**
+ * Exception lançada quando os parâmetros da requisição são inválidos
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
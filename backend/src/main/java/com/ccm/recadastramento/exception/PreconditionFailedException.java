@@ -0,0 +1,11 @@
+package com.ccm.recadastramento.exception;
+
+/**
+ * Exception lançada quando a versão informada em If-Match não é a versão atual do recurso
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
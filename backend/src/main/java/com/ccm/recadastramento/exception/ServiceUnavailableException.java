@@ -0,0 +1,18 @@
+package com.ccm.recadastramento.exception;
+
+/**
+ * Exception lançada quando o serviço está saturado e a requisição deve ser repetida depois
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSegundos;
+
+    public ServiceUnavailableException(String message, long retryAfterSegundos) {
+        super(message);
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ccm.recadastramento.exception;
+
+/**
+ * Exception lançada quando o cliente excedeu o limite de requisições e deve repetir depois
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSegundos;
+
+    public TooManyRequestsException(String message, long retryAfterSegundos) {
+        super(message);
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
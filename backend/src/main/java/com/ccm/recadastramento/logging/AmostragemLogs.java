@@ -0,0 +1,51 @@
+package com.ccm.recadastramento.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TurboFilter do Logback que amostra os logs de alto volume (uma linha por requisição nos controllers):
+ * dos eventos INFO ou abaixo dos loggers sob o prefixo, deixa passar 1 a cada "taxa"; WARN e ERROR
+ * passam sempre. Decide antes de a mensagem ser formatada, então o descarte não custa nada.
+ * Configurado no logback-spring.xml (profile "producao").
+ */
+public class AmostragemLogs extends TurboFilter {
+
+    private final AtomicLong eventos = new AtomicLong();
+
+    private String prefixo = "com.ccm.recadastramento.controller";
+    private int taxa = 10;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format nulo: apenas isXxxEnabled(), não é um evento
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !logger.getName().startsWith(prefixo)) {
+            return FilterReply.NEUTRAL;
+        }
+        return eventos.getAndIncrement() % taxa == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (taxa < 1) {
+            addError("taxa de amostragem deve ser maior que zero: " + taxa);
+            return;
+        }
+        super.start();
+    }
+
+    public void setPrefixo(String prefixo) {
+        this.prefixo = prefixo;
+    }
+
+    public void setTaxa(int taxa) {
+        this.taxa = taxa;
+    }
+}
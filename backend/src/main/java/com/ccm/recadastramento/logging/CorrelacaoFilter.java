@@ -0,0 +1,52 @@
+package com.ccm.recadastramento.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Identificador de correlação por requisição: usa o header X-Correlation-Id recebido (quando válido)
+ * ou gera um novo, coloca no MDC (chave correlationId, presente em todas as linhas de log da requisição)
+ * e o devolve no header da resposta
+ */
+public class CorrelacaoFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String CHAVE_MDC = "correlationId";
+
+    /**
+     * Valores de fora entram no log: só letras, dígitos, '-' e '_', até 64 caracteres
+     */
+    private static final Pattern FORMATO_VALIDO = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String recebido = request.getHeader(HEADER);
+        String correlacao = recebido != null && FORMATO_VALIDO.matcher(recebido).matches() ? recebido : gerar();
+
+        MDC.put(CHAVE_MDC, correlacao);
+        response.setHeader(HEADER, correlacao);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(CHAVE_MDC);
+        }
+    }
+
+    /**
+     * UUID aleatório sem o SecureRandom de UUID.randomUUID(): não precisa ser imprevisível, só único
+     */
+    private static String gerar() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        return new UUID(aleatorio.nextLong(), aleatorio.nextLong()).toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.ccm.recadastramento.mapper;
+
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.entity.Contato;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversão entre Contato e ContatoDTO, campo a campo e sem reflexão
+ */
+@Component
+public class ContatoMapper {
+
+    /**
+     * Lê apenas o ID do funcionário, sem inicializar o proxy LAZY
+     */
+    public ContatoDTO toDTO(Contato entity) {
+        return new ContatoDTO(
+                entity.getId(),
+                entity.getFuncionario().getId(),
+                entity.getTipo(),
+                entity.getValor(),
+                entity.getDescricao(),
+                entity.getPrincipal(),
+                entity.getVersao()
+        );
+    }
+
+    /**
+     * Cria uma nova entidade a partir do DTO; o funcionário deve ser associado pelo chamador
+     */
+    public Contato toEntity(ContatoDTO dto) {
+        Contato entity = new Contato();
+        atualizar(dto, entity);
+        return entity;
+    }
+
+    /**
+     * Copia os dados editáveis do DTO para a entidade existente
+     */
+    public void atualizar(ContatoDTO dto, Contato entity) {
+        entity.setTipo(dto.getTipo());
+        entity.setValor(dto.getValor());
+        entity.setDescricao(dto.getDescricao());
+        entity.setPrincipal(Boolean.TRUE.equals(dto.getPrincipal()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.ccm.recadastramento.mapper;
+
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.entity.Funcionario;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversão entre Funcionario e FuncionarioDTO, campo a campo e sem reflexão
+ */
+@Component
+public class FuncionarioMapper {
+
+    public FuncionarioDTO toDTO(Funcionario entity) {
+        return new FuncionarioDTO(
+                entity.getId(),
+                entity.getCpf(),
+                entity.getNome(),
+                entity.getNomeSocial(),
+                entity.getDataNascimento(),
+                entity.getRacaCor(),
+                entity.getSexo(),
+                entity.getNacionalidade(),
+                entity.getEstadoNascimento(),
+                entity.getCidadeNascimento(),
+                entity.getTelefone(),
+                entity.getVersao()
+        );
+    }
+
+    /**
+     * Cria uma nova entidade a partir do DTO (o ID é gerado na persistência)
+     */
+    public Funcionario toEntity(FuncionarioDTO dto) {
+        Funcionario entity = new Funcionario();
+        atualizar(dto, entity);
+        return entity;
+    }
+
+    /**
+     * Copia os dados do DTO para a entidade existente, preservando ID e datas de auditoria
+     */
+    public void atualizar(FuncionarioDTO dto, Funcionario entity) {
+        entity.setCpf(dto.getCpf());
+        entity.setNome(dto.getNome());
+        entity.setNomeSocial(dto.getNomeSocial());
+        entity.setDataNascimento(dto.getDataNascimento());
+        entity.setRacaCor(dto.getRacaCor());
+        entity.setSexo(dto.getSexo());
+        entity.setNacionalidade(dto.getNacionalidade());
+        entity.setEstadoNascimento(dto.getEstadoNascimento());
+        entity.setCidadeNascimento(dto.getCidadeNascimento());
+        entity.setTelefone(dto.getTelefone());
+    }
+}
@@ -0,0 +1,34 @@
+package com.ccm.recadastramento.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread atual.
+ * A contagem só é feita entre iniciar() e finalizar(), chamados por requisição pelo MetricasSqlFilter.
+ */
+public class ContadorSql implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CONTADOR = new ThreadLocal<>();
+
+    public static void iniciar() {
+        CONTADOR.set(new int[1]);
+    }
+
+    /**
+     * Encerra a contagem da thread atual e retorna o total de comandos
+     */
+    public static int finalizar() {
+        int[] contador = CONTADOR.get();
+        CONTADOR.remove();
+        return contador == null ? 0 : contador[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] contador = CONTADOR.get();
+        if (contador != null) {
+            contador[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ccm.recadastramento.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Registra quantos comandos SQL cada requisição executou (métrica recadastramento.http.sql.comandos),
+ * por método e rota, e avisa no log quando passa do limite configurado (indício de N+1).
+ * Só requisições síncronas: a contagem é por thread, e o que uma requisição assíncrona (exportação em
+ * streaming, endpoints Mono/Flux) executa depois de liberar a thread não passaria por aqui.
+ */
+@Slf4j
+public class MetricasSqlFilter extends OncePerRequestFilter {
+
+    public static final String METRICA = "recadastramento.http.sql.comandos";
+
+    private final MeterRegistry meterRegistry;
+    private final int limiteAlerta;
+
+    public MetricasSqlFilter(MeterRegistry meterRegistry, int limiteAlerta) {
+        this.meterRegistry = meterRegistry;
+        this.limiteAlerta = limiteAlerta;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContadorSql.iniciar();
+        int comandos;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            comandos = ContadorSql.finalizar();
+        }
+        if (request.isAsyncStarted()) {
+            // O restante roda em outra thread: a contagem aqui seria parcial
+            return;
+        }
+
+        Object rota = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = rota == null ? "UNKNOWN" : rota.toString();
+
+        DistributionSummary.builder(METRICA)
+                .description("Comandos SQL executados por requisição síncrona (as assíncronas não são medidas)")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(comandos);
+
+        if (comandos > limiteAlerta) {
+            log.warn("{} {} executou {} comandos SQL (limite {}), possível N+1",
+                    request.getMethod(), uri, comandos, limiteAlerta);
+        }
+    }
+}
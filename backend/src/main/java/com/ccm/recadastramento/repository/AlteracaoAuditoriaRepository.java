@@ -0,0 +1,38 @@
+package com.ccm.recadastramento.repository;
+
+import com.ccm.recadastramento.dto.AlteracaoAuditoriaDTO;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository para AlteracaoAuditoria (somente inserção e leitura)
+ */
+@Repository
+public interface AlteracaoAuditoriaRepository extends JpaRepository<AlteracaoAuditoria, Long> {
+
+    String SELECT_DTO = """
+            select new com.ccm.recadastramento.dto.AlteracaoAuditoriaDTO(
+                a.id, a.entidade, a.entidadeId, a.operacao, a.campo, a.valorAnterior, a.valorNovo,
+                a.usuario, a.dataHora)
+            from AlteracaoAuditoria a
+            """;
+
+    /**
+     * Histórico de um funcionário, mais recente primeiro (primeira página)
+     */
+    @Query(SELECT_DTO + " where a.funcionarioId = :funcionarioId order by a.id desc")
+    List<AlteracaoAuditoriaDTO> findHistorico(@Param("funcionarioId") Long funcionarioId, Pageable pageable);
+
+    /**
+     * Histórico de um funcionário anterior ao ID informado (keyset)
+     */
+    @Query(SELECT_DTO + " where a.funcionarioId = :funcionarioId and a.id < :id order by a.id desc")
+    List<AlteracaoAuditoriaDTO> findHistoricoAntesDe(@Param("funcionarioId") Long funcionarioId,
+                                                     @Param("id") Long id, Pageable pageable);
+}
@@ -1,10 +1,25 @@
 package com.ccm.recadastramento.repository;
 
+import com.ccm.recadastramento.dto.ContatoDTO;
 import com.ccm.recadastramento.entity.Contato;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.ccm.recadastramento.repository.FuncionarioRepository.FETCH_SIZE_STREAM;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository para Contato
@@ -12,13 +27,107 @@ import java.util.List;
 @Repository
 public interface ContatoRepository extends JpaRepository<Contato, Long> {
 
+    /**
+     * Projeção das leituras: lê funcionario_id diretamente, sem carregar nem inicializar o Funcionario
+     */
+    String SELECT_DTO = """
+            select new com.ccm.recadastramento.dto.ContatoDTO(
+                c.id, c.funcionario.id, c.tipo, c.valor, c.descricao, c.principal, c.versao)
+            from Contato c
+            """;
+
+    /**
+     * IDs dos contatos principais de um funcionário para o tipo informado (no máximo um, pelo índice parcial)
+     */
+    @Query("select c.id from Contato c where c.funcionario.id = :funcionarioId and c.tipo = :tipo and c.principal = true")
+    List<Long> findIdsPrincipais(@Param("funcionarioId") Long funcionarioId, @Param("tipo") String tipo);
+
+    /**
+     * Remove a marcação de principal num único UPDATE, incrementando a versão (ETag) dos afetados
+     */
+    @Modifying
+    @Query("""
+            update Contato c
+            set c.principal = false, c.versao = c.versao + 1, c.atualizadoEm = current_timestamp
+            where c.id in :ids
+            """)
+    int rebaixarPrincipais(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Exclui o contato numa única instrução (sem o SELECT prévio do deleteById) e devolve o ID do
+     * funcionário dono, para o registro de exclusão e a auditoria; vazio quando o contato não existe.
+     * Nativa por causa do RETURNING (PostgreSQL), que o JPQL não tem.
+     */
+    @Query(value = "delete from contatos where id = :id returning funcionario_id", nativeQuery = true)
+    Optional<Long> excluirPorId(@Param("id") Long id);
+
+    /**
+     * Como excluirPorId, mas apenas se ainda estiver na versão informada (If-Match); vazio caso contrário
+     */
+    @Query(value = "delete from contatos where id = :id and versao = :versao returning funcionario_id",
+            nativeQuery = true)
+    Optional<Long> excluirPorIdEVersao(@Param("id") Long id, @Param("versao") Long versao);
+
+    /**
+     * Versão atual do contato, sem carregar a entidade
+     */
+    @Query("select c.versao from Contato c where c.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
     /**
      * Busca todos os contatos de um funcionário
      */
     List<Contato> findByFuncionarioId(Long funcionarioId);
 
+    /**
+     * Busca todos os contatos de um funcionário já como DTO
+     */
+    @Query(SELECT_DTO + "where c.funcionario.id = :funcionarioId order by c.id")
+    List<ContatoDTO> findDTOsByFuncionarioId(@Param("funcionarioId") Long funcionarioId);
+
+    /**
+     * Busca contato por ID já como DTO
+     */
+    @Query(SELECT_DTO + "where c.id = :id")
+    Optional<ContatoDTO> findDTOById(@Param("id") Long id);
+
     /**
      * Busca contatos de um funcionário por tipo
      */
     List<Contato> findByFuncionarioIdAndTipo(Long funcionarioId, String tipo);
+
+    /**
+     * Busca os contatos de vários funcionários em uma única consulta, já como DTO
+     */
+    @Query(SELECT_DTO + """
+            where c.funcionario.id in :funcionarioIds
+            order by c.funcionario.id, c.id
+            """)
+    List<ContatoDTO> findDTOsByFuncionarioIdIn(@Param("funcionarioIds") Collection<Long> funcionarioIds);
+
+    /**
+     * Sincronização incremental: contatos alterados depois do par (atualizadoEm, ID) visto por último
+     * e antes do limite, com o atualizadoEm de cada um para o próximo cursor ([ContatoDTO, LocalDateTime])
+     */
+    @Query("""
+            select new com.ccm.recadastramento.dto.ContatoDTO(
+                c.id, c.funcionario.id, c.tipo, c.valor, c.descricao, c.principal, c.versao),
+                c.atualizadoEm
+            from Contato c
+            where (c.atualizadoEm, c.id) > (:desde, :id) and c.atualizadoEm < :ate
+            order by c.atualizadoEm asc, c.id asc
+            """)
+    List<Object[]> findAlteradosApos(@Param("desde") LocalDateTime desde, @Param("id") Long id,
+                                     @Param("ate") LocalDateTime ate, Pageable pageable);
+
+    /**
+     * Percorre todos os contatos ordenados por funcionário e ID usando cursor no servidor.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = FETCH_SIZE_STREAM),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_DTO + "order by c.funcionario.id, c.id")
+    Stream<ContatoDTO> streamTodosOrdenadosPorFuncionario();
 }
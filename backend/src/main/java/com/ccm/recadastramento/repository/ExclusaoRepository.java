@@ -0,0 +1,34 @@
+package com.ccm.recadastramento.repository;
+
+import com.ccm.recadastramento.entity.Exclusao;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Repository para Exclusao
+ */
+@Repository
+public interface ExclusaoRepository extends JpaRepository<Exclusao, Long> {
+
+    /**
+     * Exclusões depois do par (excluidoEm, ID) visto por último e antes do limite (keyset)
+     */
+    @Query("""
+            select e from Exclusao e
+            where (e.excluidoEm, e.id) > (:desde, :id) and e.excluidoEm < :ate
+            order by e.excluidoEm asc, e.id asc
+            """)
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Exclusao> findExclusoesApos(@Param("desde") LocalDateTime desde, @Param("id") Long id,
+                                     @Param("ate") LocalDateTime ate, Pageable pageable);
+}
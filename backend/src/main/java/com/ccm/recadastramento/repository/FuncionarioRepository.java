@@ -1,24 +1,186 @@
 package com.ccm.recadastramento.repository;
 
+import com.ccm.recadastramento.dto.FuncionarioDTO;
 import com.ccm.recadastramento.entity.Funcionario;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository para Funcionário
  */
 @Repository
-public interface FuncionarioRepository extends JpaRepository<Funcionario, Long> {
+public interface FuncionarioRepository extends JpaRepository<Funcionario, Long>, JpaSpecificationExecutor<Funcionario>,
+        FuncionarioRepositoryCustom {
+
+    /**
+     * Quantidade de linhas trazidas por ida ao banco nas consultas em stream (cursor no servidor)
+     */
+    String FETCH_SIZE_STREAM = "500";
+
+    /**
+     * Projeção das leituras: seleciona só as colunas do DTO, sem entidade gerenciada nem snapshot
+     */
+    String SELECT_DTO = """
+            select new com.ccm.recadastramento.dto.FuncionarioDTO(
+                f.id, f.cpf, f.nome, f.nomeSocial, f.dataNascimento, f.racaCor, f.sexo,
+                f.nacionalidade, f.estadoNascimento, f.cidadeNascimento, f.telefone, f.versao)
+            from Funcionario f
+            """;
+
+    /**
+     * Busca funcionário por ID já como DTO
+     */
+    @Query(SELECT_DTO + "where f.id = :id")
+    Optional<FuncionarioDTO> findDTOById(@Param("id") Long id);
+
+    /**
+     * Busca funcionário pela chave numérica do CPF já como DTO
+     */
+    @Query(SELECT_DTO + "where f.cpfNumero = :cpfNumero")
+    Optional<FuncionarioDTO> findDTOByCpfNumero(@Param("cpfNumero") long cpfNumero);
+
+    /**
+     * Busca o funcionário com SELECT ... FOR UPDATE, serializando as alterações nos contatos dele
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from Funcionario f where f.id = :id")
+    Optional<Funcionario> findParaAtualizacaoById(@Param("id") Long id);
+
+    /**
+     * Ficha por ID: funcionário e contatos numa única consulta (left join; contato nulo quando não há)
+     */
+    @Query("""
+            select f, c from Funcionario f
+            left join Contato c on c.funcionario = f
+            where f.id = :id
+            order by c.id
+            """)
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Object[]> findFichaById(@Param("id") Long id);
+
+    /**
+     * Ficha pela chave numérica do CPF: funcionário e contatos numa única consulta (left join; contato nulo quando não há)
+     */
+    @Query("""
+            select f, c from Funcionario f
+            left join Contato c on c.funcionario = f
+            where f.cpfNumero = :cpfNumero
+            order by c.id
+            """)
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Object[]> findFichaByCpfNumero(@Param("cpfNumero") long cpfNumero);
+
+    /**
+     * Verifica se existe funcionário com a chave numérica do CPF informada
+     */
+    boolean existsByCpfNumero(Long cpfNumero);
+
+    /**
+     * Retorna, dentre as chaves numéricas de CPF informadas, as que já estão cadastradas
+     */
+    @Query("select f.cpfNumero from Funcionario f where f.cpfNumero in :cpfs")
+    Set<Long> findCpfsExistentes(@Param("cpfs") Collection<Long> cpfs);
+
+    /**
+     * Versão atual do funcionário, sem carregar a entidade
+     */
+    @Query("select f.versao from Funcionario f where f.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    /**
+     * Exclui o funcionário numa única instrução (os contatos saem pelo ON DELETE CASCADE) e devolve a
+     * chave numérica do CPF excluído, para tirá-lo do cache; vazio quando o funcionário não existe.
+     * Nativa por causa do RETURNING (PostgreSQL), que o JPQL não tem.
+     */
+    @Query(value = "delete from funcionarios where id = :id returning cpf_numero", nativeQuery = true)
+    Optional<Long> excluirPorId(@Param("id") Long id);
+
+    /**
+     * Como excluirPorId, mas apenas se ainda estiver na versão informada (If-Match); vazio caso contrário
+     */
+    @Query(value = "delete from funcionarios where id = :id and versao = :versao returning cpf_numero",
+            nativeQuery = true)
+    Optional<Long> excluirPorIdEVersao(@Param("id") Long id, @Param("versao") Long versao);
+
+    /**
+     * Dentre os IDs informados, os que existem ([ID, cpfNumero]), com SELECT ... FOR UPDATE até a exclusão em lote
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f.id, f.cpfNumero from Funcionario f where f.id in :ids order by f.id")
+    List<Object[]> findIdsParaExclusao(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Exclui os funcionários informados num único DELETE (contatos pelo ON DELETE CASCADE)
+     */
+    @Modifying
+    @Query("delete from Funcionario f where f.id in :ids")
+    int excluirPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Página ordenada por ID a partir do último ID visto (keyset)
+     */
+    @Query(SELECT_DTO + "where f.id > :id order by f.id asc")
+    List<FuncionarioDTO> findPaginaPorIdApos(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Primeira página ordenada por nome, com ID como desempate
+     */
+    @Query(SELECT_DTO + "order by f.nome asc, f.id asc")
+    List<FuncionarioDTO> findPrimeiraPaginaPorNome(Pageable pageable);
+
+    /**
+     * Página ordenada por nome a partir do último par (nome, ID) visto (keyset)
+     */
+    @Query(SELECT_DTO + """
+            where f.nome > :nome or (f.nome = :nome and f.id > :id)
+            order by f.nome asc, f.id asc
+            """)
+    List<FuncionarioDTO> findPaginaPorNomeApos(@Param("nome") String nome, @Param("id") Long id, Pageable pageable);
 
     /**
-     * Busca funcionário por CPF
+     * Sincronização incremental: funcionários alterados depois do par (atualizadoEm, ID) visto por último
+     * e antes do limite, com o atualizadoEm de cada um para o próximo cursor ([FuncionarioDTO, LocalDateTime]).
+     * A comparação de tupla vira faixa no índice (atualizado_em, id).
      */
-    Optional<Funcionario> findByCpf(String cpf);
+    @Query("""
+            select new com.ccm.recadastramento.dto.FuncionarioDTO(
+                f.id, f.cpf, f.nome, f.nomeSocial, f.dataNascimento, f.racaCor, f.sexo,
+                f.nacionalidade, f.estadoNascimento, f.cidadeNascimento, f.telefone, f.versao),
+                f.atualizadoEm
+            from Funcionario f
+            where (f.atualizadoEm, f.id) > (:desde, :id) and f.atualizadoEm < :ate
+            order by f.atualizadoEm asc, f.id asc
+            """)
+    List<Object[]> findAlteradosApos(@Param("desde") LocalDateTime desde, @Param("id") Long id,
+                                     @Param("ate") LocalDateTime ate, Pageable pageable);
 
     /**
-     * Verifica se existe funcionário com o CPF informado
+     * Percorre todos os funcionários ordenados por ID usando cursor no servidor.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
      */
-    boolean existsByCpf(String cpf);
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = FETCH_SIZE_STREAM),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_DTO + "order by f.id")
+    Stream<FuncionarioDTO> streamTodosOrdenadosPorId();
 }
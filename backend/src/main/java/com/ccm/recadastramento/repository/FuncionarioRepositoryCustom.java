@@ -0,0 +1,18 @@
+package com.ccm.recadastramento.repository;
+
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.entity.Funcionario;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Consultas de Funcionário que não são expressáveis como métodos derivados ou @Query
+ */
+public interface FuncionarioRepositoryCustom {
+
+    /**
+     * Busca por Specification projetando direto em FuncionarioDTO, ordenado por ID
+     */
+    List<FuncionarioDTO> findDTOs(Specification<Funcionario> especificacao, int limite);
+}
@@ -0,0 +1,44 @@
+package com.ccm.recadastramento.repository;
+
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.entity.Funcionario;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Implementação das consultas customizadas de Funcionário
+ */
+public class FuncionarioRepositoryCustomImpl implements FuncionarioRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<FuncionarioDTO> findDTOs(Specification<Funcionario> especificacao, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FuncionarioDTO> query = cb.createQuery(FuncionarioDTO.class);
+        Root<Funcionario> f = query.from(Funcionario.class);
+
+        query.select(cb.construct(FuncionarioDTO.class,
+                f.get("id"), f.get("cpf"), f.get("nome"), f.get("nomeSocial"), f.get("dataNascimento"),
+                f.get("racaCor"), f.get("sexo"), f.get("nacionalidade"), f.get("estadoNascimento"),
+                f.get("cidadeNascimento"), f.get("telefone"), f.get("versao")));
+
+        Predicate predicado = especificacao.toPredicate(f, query, cb);
+        if (predicado != null) {
+            query.where(predicado);
+        }
+        query.orderBy(cb.asc(f.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+}
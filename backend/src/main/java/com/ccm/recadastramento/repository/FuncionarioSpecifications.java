@@ -0,0 +1,93 @@
+package com.ccm.recadastramento.repository;
+
+import com.ccm.recadastramento.dto.FiltroFuncionarioDTO;
+import com.ccm.recadastramento.dto.FiltroFuncionarioDTO.ModoBuscaNome;
+import com.ccm.recadastramento.entity.Funcionario;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Specifications para a busca de funcionários.
+ * Cada filtro corresponde a um índice criado na migração V3 (db/migration).
+ */
+public final class FuncionarioSpecifications {
+
+    /**
+     * Função imutável criada na migração sobre unaccent(), usada no índice trigram de nome
+     */
+    private static final String FUNCAO_SEM_ACENTO = "f_unaccent";
+
+    private FuncionarioSpecifications() {
+    }
+
+    public static Specification<Funcionario> comFiltro(FiltroFuncionarioDTO filtro) {
+        return Specification.allOf(
+                nome(filtro.getNome(), filtro.getModoBuscaNome()),
+                igual("estadoNascimento", filtro.getEstadoNascimento() == null
+                        ? null : filtro.getEstadoNascimento().toUpperCase(Locale.ROOT)),
+                igual("cidadeNascimento", filtro.getCidadeNascimento()),
+                igual("sexo", filtro.getSexo()),
+                igual("racaCor", filtro.getRacaCor()),
+                nascidoEntre(filtro.getDataNascimentoInicio(), filtro.getDataNascimentoFim())
+        );
+    }
+
+    /**
+     * Restringe a IDs maiores que o informado (paginação keyset)
+     */
+    public static Specification<Funcionario> idMaiorQue(Long id) {
+        return (root, query, cb) -> id == null ? null : cb.greaterThan(root.get("id"), id);
+    }
+
+    /**
+     * Compara f_unaccent(lower(nome)) com o termo normalizado da mesma forma em Java
+     */
+    private static Specification<Funcionario> nome(String termo, ModoBuscaNome modo) {
+        if (termo == null || termo.isBlank()) {
+            return null;
+        }
+        String normalizado = normalizar(termo.trim());
+        String padrao = modo == ModoBuscaNome.PREFIXO ? normalizado + "%" : "%" + normalizado + "%";
+        return (root, query, cb) -> {
+            Expression<String> nome = cb.function(FUNCAO_SEM_ACENTO, String.class, cb.lower(root.get("nome")));
+            return cb.like(nome, padrao, '\\');
+        };
+    }
+
+    private static Specification<Funcionario> igual(String atributo, String valor) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(atributo), valor);
+    }
+
+    private static Specification<Funcionario> nascidoEntre(LocalDate inicio, LocalDate fim) {
+        if (inicio == null && fim == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (inicio == null) {
+                return cb.lessThanOrEqualTo(root.get("dataNascimento"), fim);
+            }
+            if (fim == null) {
+                return cb.greaterThanOrEqualTo(root.get("dataNascimento"), inicio);
+            }
+            return cb.between(root.get("dataNascimento"), inicio, fim);
+        };
+    }
+
+    /**
+     * Remove acentos, converte para minúsculas e escapa os curingas do LIKE
+     */
+    private static String normalizar(String texto) {
+        String semAcento = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return semAcento.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,126 @@
+package com.ccm.recadastramento.repository;
+
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Leituras de funcionários e contatos sobre R2DBC, em SQL direto e projetadas nos mesmos DTOs das rotas JPA
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.reativo", name = "habilitado", havingValue = "true")
+public class LeituraReativaRepository {
+
+    private static final String SELECT_FUNCIONARIO = """
+            select id, cpf, nome, nome_social, data_nascimento, raca_cor, sexo, nacionalidade,
+                   estado_nascimento, cidade_nascimento, telefone, versao
+            from funcionarios
+            """;
+
+    private static final String SELECT_CONTATO = """
+            select id, funcionario_id, tipo, valor, descricao, principal, versao
+            from contatos
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<FuncionarioDTO> findFuncionarioById(long id) {
+        return databaseClient.sql(SELECT_FUNCIONARIO + "where id = :id")
+                .bind("id", id)
+                .map(LeituraReativaRepository::toFuncionarioDTO)
+                .one();
+    }
+
+    public Mono<FuncionarioDTO> findFuncionarioByCpfNumero(long cpfNumero) {
+        return databaseClient.sql(SELECT_FUNCIONARIO + "where cpf_numero = :cpfNumero")
+                .bind("cpfNumero", cpfNumero)
+                .map(LeituraReativaRepository::toFuncionarioDTO)
+                .one();
+    }
+
+    /**
+     * Página ordenada por ID a partir do último ID visto (keyset)
+     */
+    public Flux<FuncionarioDTO> findPaginaPorIdApos(long id, int limite) {
+        return databaseClient.sql(SELECT_FUNCIONARIO + "where id > :id order by id limit :limite")
+                .bind("id", id)
+                .bind("limite", limite)
+                .map(LeituraReativaRepository::toFuncionarioDTO)
+                .all();
+    }
+
+    /**
+     * Primeira página ordenada por nome, com ID como desempate
+     */
+    public Flux<FuncionarioDTO> findPrimeiraPaginaPorNome(int limite) {
+        return databaseClient.sql(SELECT_FUNCIONARIO + "order by nome, id limit :limite")
+                .bind("limite", limite)
+                .map(LeituraReativaRepository::toFuncionarioDTO)
+                .all();
+    }
+
+    /**
+     * Página ordenada por nome a partir do último par (nome, ID) visto (keyset)
+     */
+    public Flux<FuncionarioDTO> findPaginaPorNomeApos(String nome, long id, int limite) {
+        return databaseClient.sql(SELECT_FUNCIONARIO
+                        + "where nome > :nome or (nome = :nome and id > :id) order by nome, id limit :limite")
+                .bind("nome", nome)
+                .bind("id", id)
+                .bind("limite", limite)
+                .map(LeituraReativaRepository::toFuncionarioDTO)
+                .all();
+    }
+
+    public Mono<ContatoDTO> findContatoById(long id) {
+        return databaseClient.sql(SELECT_CONTATO + "where id = :id")
+                .bind("id", id)
+                .map(LeituraReativaRepository::toContatoDTO)
+                .one();
+    }
+
+    public Flux<ContatoDTO> findContatosByFuncionarioId(long funcionarioId) {
+        return databaseClient.sql(SELECT_CONTATO + "where funcionario_id = :funcionarioId order by id")
+                .bind("funcionarioId", funcionarioId)
+                .map(LeituraReativaRepository::toContatoDTO)
+                .all();
+    }
+
+    private static FuncionarioDTO toFuncionarioDTO(Readable row) {
+        return new FuncionarioDTO(
+                row.get("id", Long.class),
+                row.get("cpf", String.class),
+                row.get("nome", String.class),
+                row.get("nome_social", String.class),
+                row.get("data_nascimento", LocalDate.class),
+                row.get("raca_cor", String.class),
+                row.get("sexo", String.class),
+                row.get("nacionalidade", String.class),
+                row.get("estado_nascimento", String.class),
+                row.get("cidade_nascimento", String.class),
+                row.get("telefone", String.class),
+                row.get("versao", Long.class)
+        );
+    }
+
+    private static ContatoDTO toContatoDTO(Readable row) {
+        return new ContatoDTO(
+                row.get("id", Long.class),
+                row.get("funcionario_id", Long.class),
+                row.get("tipo", String.class),
+                row.get("valor", String.class),
+                row.get("descricao", String.class),
+                row.get("principal", Boolean.class),
+                row.get("versao", Long.class)
+        );
+    }
+}
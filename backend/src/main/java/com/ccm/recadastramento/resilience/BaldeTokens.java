@@ -0,0 +1,38 @@
+package com.ccm.recadastramento.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens sem lock, no formato GCRA: o estado é um único instante teórico (em nanos) em que
+ * o balde estaria cheio de novo, atualizado por CAS. Cada requisição avança esse instante em um
+ * intervalo; é recusada se isso o levar além da rajada permitida.
+ */
+final class BaldeTokens {
+
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    private final AtomicLong chegadaTeorica;
+
+    BaldeTokens(int capacidade, double porSegundo, long agoraNanos) {
+        this.intervaloNanos = Math.max(1, (long) (1_000_000_000L / porSegundo));
+        this.toleranciaNanos = (Math.max(1, capacidade) - 1) * intervaloNanos;
+        this.chegadaTeorica = new AtomicLong(agoraNanos);
+    }
+
+    /**
+     * Consome um token; devolve 0 se conseguiu ou, se não, quantos nanos faltam para o próximo
+     */
+    long consumir(long agoraNanos) {
+        while (true) {
+            long atual = chegadaTeorica.get();
+            long base = atual - agoraNanos > 0 ? atual : agoraNanos;
+            long espera = base - toleranciaNanos - agoraNanos;
+            if (espera > 0) {
+                return espera;
+            }
+            if (chegadaTeorica.compareAndSet(atual, base + intervaloNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ccm.recadastramento.resilience;
+
+import com.ccm.recadastramento.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkhead na entrada dos métodos transacionais dos services.
+ * Limita quantas transações rodam ao mesmo tempo ao tamanho do pool de conexões, para que
+ * milhares de threads virtuais esperem numa fila justa em vez de disputar o HikariCP; quem
+ * não consegue permissão dentro do tempo máximo recebe 503 com Retry-After.
+ * Roda antes do TransactionInterceptor, ou seja, antes de pegar a conexão.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class BulkheadBancoAspect {
+
+    /**
+     * Evita que chamadas aninhadas entre services peçam uma segunda permissão (e travem)
+     */
+    private static final ThreadLocal<Boolean> PERMISSAO_ATIVA = new ThreadLocal<>();
+
+    private final Semaphore permissoes;
+    private final int maxConcorrencia;
+    private final long esperaMaximaMs;
+
+    public BulkheadBancoAspect(
+            @Value("${app.bulkhead.max-concorrencia:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcorrencia,
+            @Value("${app.bulkhead.espera-maxima:2s}") Duration esperaMaxima,
+            MeterRegistry meterRegistry) {
+        this.permissoes = new Semaphore(maxConcorrencia, true);
+        this.maxConcorrencia = maxConcorrencia;
+        this.esperaMaximaMs = esperaMaxima.toMillis();
+
+        Gauge.builder("recadastramento.bulkhead.em.uso", permissoes, s -> maxConcorrencia - s.availablePermits())
+                .description("Transações em execução dentro do bulkhead")
+                .register(meterRegistry);
+        Gauge.builder("recadastramento.bulkhead.fila", permissoes, Semaphore::getQueueLength)
+                .description("Threads aguardando permissão do bulkhead")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(org.springframework.transaction.annotation.Transactional) "
+            + "&& within(com.ccm.recadastramento.service..*)")
+    public Object limitar(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (PERMISSAO_ATIVA.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        if (!permissoes.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS)) {
+            log.warn("Bulkhead saturado ({} transações simultâneas), recusando {}",
+                    maxConcorrencia, joinPoint.getSignature().toShortString());
+            throw new ServiceUnavailableException("Serviço sobrecarregado, tente novamente em instantes", 1);
+        }
+        PERMISSAO_ATIVA.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PERMISSAO_ATIVA.remove();
+            permissoes.release();
+        }
+    }
+}
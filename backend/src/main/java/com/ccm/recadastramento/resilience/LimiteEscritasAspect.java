@@ -0,0 +1,90 @@
+package com.ccm.recadastramento.resilience;
+
+import com.ccm.recadastramento.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite global de escritas simultâneas nos services de funcionário e contato (inclui ficha e importação).
+ * Roda antes do bulkhead: escritas em excesso esperam aqui, sem ocupar permissões do bulkhead, e as
+ * leituras continuam com o restante do pool. Quem não consegue permissão a tempo recebe 429 com Retry-After.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@Slf4j
+public class LimiteEscritasAspect {
+
+    /**
+     * Evita que chamadas aninhadas entre services (ficha → funcionário → contato) peçam outra permissão
+     */
+    private static final ThreadLocal<Boolean> PERMISSAO_ATIVA = new ThreadLocal<>();
+
+    private final Semaphore permissoes;
+    private final int maxConcorrencia;
+    private final long esperaMaximaMs;
+    private final Counter rejeicoes;
+
+    public LimiteEscritasAspect(
+            @Value("${app.limite-escritas.max-concorrencia:10}") int maxConcorrencia,
+            @Value("${app.limite-escritas.espera-maxima:500ms}") Duration esperaMaxima,
+            MeterRegistry meterRegistry) {
+        this.permissoes = new Semaphore(maxConcorrencia, true);
+        this.maxConcorrencia = maxConcorrencia;
+        this.esperaMaximaMs = esperaMaxima.toMillis();
+
+        Gauge.builder("recadastramento.limite.escritas.em.uso", permissoes, s -> maxConcorrencia - s.availablePermits())
+                .description("Escritas em execução dentro do limite de escritas simultâneas")
+                .register(meterRegistry);
+        this.rejeicoes = Counter.builder("recadastramento.limite.rejeicoes")
+                .description("Requisições recusadas por limite de taxa ou de escritas simultâneas")
+                .tag("limite", "escritas")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(org.springframework.transaction.annotation.Transactional) && ("
+            + "within(com.ccm.recadastramento.service.FuncionarioService) "
+            + "|| within(com.ccm.recadastramento.service.ContatoService) "
+            + "|| within(com.ccm.recadastramento.service.FichaFuncionarioService) "
+            + "|| within(com.ccm.recadastramento.service.ImportacaoService))")
+    public Object limitar(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (PERMISSAO_ATIVA.get() != null || somenteLeitura(joinPoint)) {
+            return joinPoint.proceed();
+        }
+
+        if (!permissoes.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS)) {
+            rejeicoes.increment();
+            log.warn("Limite de escritas simultâneas atingido ({}), recusando {}",
+                    maxConcorrencia, joinPoint.getSignature().toShortString());
+            throw new TooManyRequestsException("Muitas gravações em andamento, tente novamente em instantes", 1);
+        }
+        PERMISSAO_ATIVA.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PERMISSAO_ATIVA.remove();
+            permissoes.release();
+        }
+    }
+
+    private static boolean somenteLeitura(ProceedingJoinPoint joinPoint) {
+        Transactional transactional = ((MethodSignature) joinPoint.getSignature()).getMethod()
+                .getAnnotation(Transactional.class);
+        return transactional != null && transactional.readOnly();
+    }
+}
@@ -0,0 +1,102 @@
+package com.ccm.recadastramento.resilience;
+
+import com.ccm.recadastramento.exception.TooManyRequestsException;
+import com.ccm.recadastramento.resilience.LimiteTaxaProperties.Rota;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite de taxa por cliente nas rotas configuradas em app.limite-taxa.rotas.
+ * Os baldes de cada rota ficam num cache Caffeine (concorrente, com tamanho máximo e expiração por
+ * inatividade) e cada balde é atualizado por CAS, então não há lock compartilhado entre clientes.
+ * Excedeu: 429 com Retry-After, via GlobalExceptionHandler.
+ */
+@Slf4j
+public class LimiteTaxaInterceptor implements HandlerInterceptor {
+
+    private final String cabecalhoCliente;
+    private final Set<String> chavesPermitidas;
+    private final List<LimiteRota> limites;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Counter rejeicoes;
+
+    public LimiteTaxaInterceptor(LimiteTaxaProperties properties, MeterRegistry meterRegistry) {
+        this.cabecalhoCliente = properties.getCabecalhoCliente();
+        this.chavesPermitidas = Set.copyOf(properties.getChavesPermitidas());
+        if (cabecalhoCliente != null && !cabecalhoCliente.isBlank() && chavesPermitidas.isEmpty()) {
+            log.warn("app.limite-taxa.cabecalho-cliente={} sem app.limite-taxa.chaves-permitidas; "
+                    + "os clientes serão identificados pelo IP", cabecalhoCliente);
+        }
+        this.limites = properties.getRotas().stream()
+                .map(rota -> new LimiteRota(rota, Caffeine.newBuilder()
+                        .maximumSize(properties.getClientesMaximos())
+                        .expireAfterAccess(properties.getInatividade())
+                        .build()))
+                .toList();
+        this.rejeicoes = Counter.builder("recadastramento.limite.rejeicoes")
+                .description("Requisições recusadas por limite de taxa ou de escritas simultâneas")
+                .tag("limite", "taxa")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        LimiteRota limite = buscarLimite(request);
+        if (limite == null) {
+            return true;
+        }
+
+        String cliente = cliente(request);
+        long agora = System.nanoTime();
+        BaldeTokens balde = limite.baldes().get(cliente,
+                k -> new BaldeTokens(limite.rota().getCapacidade(), limite.rota().getPorSegundo(), agora));
+        long esperaNanos = balde.consumir(agora);
+        if (esperaNanos == 0) {
+            return true;
+        }
+
+        rejeicoes.increment();
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + 999_999_999L));
+        log.warn("Limite de taxa excedido por {} em {} {}", cliente, request.getMethod(), request.getRequestURI());
+        throw new TooManyRequestsException("Limite de requisições excedido, tente novamente em " + retryAfter + "s",
+                retryAfter);
+    }
+
+    private LimiteRota buscarLimite(HttpServletRequest request) {
+        String caminho = request.getRequestURI().substring(request.getContextPath().length());
+        for (LimiteRota limite : limites) {
+            if (limite.rota().getMetodos().contains(request.getMethod())
+                    && pathMatcher.match(limite.rota().getCaminho(), caminho)) {
+                return limite;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A chave do header só identifica o cliente se estiver entre as permitidas; senão vale o IP
+     */
+    private String cliente(HttpServletRequest request) {
+        if (!chavesPermitidas.isEmpty()) {
+            String chave = request.getHeader(cabecalhoCliente);
+            if (chave != null && chavesPermitidas.contains(chave)) {
+                return "chave:" + chave;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private record LimiteRota(Rota rota, Cache<String, BaldeTokens> baldes) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.ccm.recadastramento.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Limite de taxa por cliente (app.limite-taxa.*): um balde de tokens por cliente em cada rota configurada.
+ * Vale a primeira rota que casar com o método e o caminho; requisições fora das rotas não são limitadas.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.limite-taxa")
+public class LimiteTaxaProperties {
+
+    private boolean habilitado = true;
+
+    /**
+     * Header que identifica o cliente (ex.: X-Api-Key); vazio, ou ausente na requisição, usa o IP.
+     * Sem autenticação o valor é declarado pelo próprio cliente, por isso só valem os de chavesPermitidas.
+     */
+    private String cabecalhoCliente = "";
+
+    /**
+     * Valores do cabecalhoCliente aceitos como identidade; qualquer outro valor usa o IP, para que
+     * trocar o header a cada requisição não renda um balde novo
+     */
+    private Set<String> chavesPermitidas = new HashSet<>();
+
+    /**
+     * Clientes mantidos por rota; os menos usados saem primeiro
+     */
+    private int clientesMaximos = 100_000;
+
+    /**
+     * Balde sem uso por este tempo é descartado (volta cheio)
+     */
+    private Duration inatividade = Duration.ofMinutes(10);
+
+    private List<Rota> rotas = new ArrayList<>();
+
+    @Data
+    public static class Rota {
+
+        private List<String> metodos = List.of("POST");
+
+        /**
+         * Padrão de caminho (estilo Ant), ex.: /api/funcionarios/**
+         */
+        private String caminho;
+
+        /**
+         * Rajada máxima (tokens do balde cheio)
+         */
+        private int capacidade = 20;
+
+        /**
+         * Tokens repostos por segundo (taxa sustentada)
+         */
+        private double porSegundo = 5;
+    }
+}
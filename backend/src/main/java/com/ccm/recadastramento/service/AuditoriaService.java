@@ -0,0 +1,236 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.AlteracaoAuditoriaDTO;
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.PaginaDTO;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Entidade;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Operacao;
+import com.ccm.recadastramento.exception.BadRequestException;
+import com.ccm.recadastramento.repository.AlteracaoAuditoriaRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Service da trilha de auditoria.
+ * Calcula as diferenças campo a campo entre o estado anterior e o novo, e entrega as alterações
+ * ao GravadorAuditoria somente depois do commit (uma transação desfeita não deixa rastro).
+ * No mesmo momento publica um EventoAlteracoes, que alimenta o feed de alterações (SSE).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "recadastramento.service", histogram = true)
+public class AuditoriaService {
+
+    public static final String HEADER_USUARIO = "X-Usuario";
+    public static final int TAMANHO_PAGINA_PADRAO = 50;
+    public static final int TAMANHO_PAGINA_MAXIMO = 500;
+
+    private static final String USUARIO_SISTEMA = "sistema";
+    private static final int TAMANHO_MAXIMO_VALOR = 500;
+
+    private final AlteracaoAuditoriaRepository alteracaoAuditoriaRepository;
+    private final GravadorAuditoria gravadorAuditoria;
+    private final ApplicationEventPublisher eventos;
+
+    /**
+     * Histórico de um funcionário (inclusive dos seus contatos), mais recente primeiro.
+     * O cursor é o ID da última alteração da página anterior.
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<AlteracaoAuditoriaDTO> historico(Long funcionarioId, Long cursor, Integer tamanho) {
+        int limite = tamanho == null ? TAMANHO_PAGINA_PADRAO : tamanho;
+        if (limite < 1) {
+            throw new BadRequestException("Tamanho da página deve ser maior que zero");
+        }
+        limite = Math.min(limite, TAMANHO_PAGINA_MAXIMO);
+
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<AlteracaoAuditoriaDTO> alteracoes = cursor == null
+                ? alteracaoAuditoriaRepository.findHistorico(funcionarioId, pagina)
+                : alteracaoAuditoriaRepository.findHistoricoAntesDe(funcionarioId, cursor, pagina);
+
+        boolean temProximo = alteracoes.size() > limite;
+        List<AlteracaoAuditoriaDTO> itens = temProximo ? alteracoes.subList(0, limite) : alteracoes;
+        String proximoCursor = temProximo ? String.valueOf(itens.get(itens.size() - 1).getId()) : null;
+        return new PaginaDTO<>(itens, itens.size(), proximoCursor);
+    }
+
+    public void registrarCriacao(FuncionarioDTO novo) {
+        registrar(List.of(alteracao(Entidade.FUNCIONARIO, novo.getId(), novo.getId(), Operacao.CRIACAO,
+                null, null, null)));
+    }
+
+    /**
+     * Criações em lote (importação)
+     */
+    public void registrarCriacoes(List<Long> funcionarioIds) {
+        List<AlteracaoAuditoria> alteracoes = new ArrayList<>(funcionarioIds.size());
+        String usuario = usuarioAtual();
+        LocalDateTime agora = LocalDateTime.now();
+        for (Long id : funcionarioIds) {
+            alteracoes.add(new AlteracaoAuditoria(null, Entidade.FUNCIONARIO, id, id,
+                    Operacao.CRIACAO, null, null, null, usuario, agora));
+        }
+        registrar(alteracoes);
+    }
+
+    public void registrarAlteracao(FuncionarioDTO anterior, FuncionarioDTO novo) {
+        Diferencas d = new Diferencas(Entidade.FUNCIONARIO, anterior.getId(), anterior.getId());
+        d.comparar("cpf", anterior.getCpf(), novo.getCpf());
+        d.comparar("nome", anterior.getNome(), novo.getNome());
+        d.comparar("nomeSocial", anterior.getNomeSocial(), novo.getNomeSocial());
+        d.comparar("dataNascimento", anterior.getDataNascimento(), novo.getDataNascimento());
+        d.comparar("racaCor", anterior.getRacaCor(), novo.getRacaCor());
+        d.comparar("sexo", anterior.getSexo(), novo.getSexo());
+        d.comparar("nacionalidade", anterior.getNacionalidade(), novo.getNacionalidade());
+        d.comparar("estadoNascimento", anterior.getEstadoNascimento(), novo.getEstadoNascimento());
+        d.comparar("cidadeNascimento", anterior.getCidadeNascimento(), novo.getCidadeNascimento());
+        d.comparar("telefone", anterior.getTelefone(), novo.getTelefone());
+        registrar(d.alteracoes);
+    }
+
+    public void registrarExclusao(Long funcionarioId) {
+        registrar(List.of(alteracao(Entidade.FUNCIONARIO, funcionarioId, funcionarioId, Operacao.EXCLUSAO,
+                null, null, null)));
+    }
+
+    /**
+     * Exclusões em lote
+     */
+    public void registrarExclusoes(List<Long> funcionarioIds) {
+        List<AlteracaoAuditoria> alteracoes = new ArrayList<>(funcionarioIds.size());
+        String usuario = usuarioAtual();
+        LocalDateTime agora = LocalDateTime.now();
+        for (Long id : funcionarioIds) {
+            alteracoes.add(new AlteracaoAuditoria(null, Entidade.FUNCIONARIO, id, id,
+                    Operacao.EXCLUSAO, null, null, null, usuario, agora));
+        }
+        registrar(alteracoes);
+    }
+
+    public void registrarCriacao(ContatoDTO novo) {
+        registrar(List.of(alteracao(Entidade.CONTATO, novo.getId(), novo.getFuncionarioId(), Operacao.CRIACAO,
+                null, null, null)));
+    }
+
+    public void registrarAlteracao(ContatoDTO anterior, ContatoDTO novo) {
+        Diferencas d = new Diferencas(Entidade.CONTATO, anterior.getId(), anterior.getFuncionarioId());
+        d.comparar("tipo", anterior.getTipo(), novo.getTipo());
+        d.comparar("valor", anterior.getValor(), novo.getValor());
+        d.comparar("descricao", anterior.getDescricao(), novo.getDescricao());
+        d.comparar("principal", anterior.getPrincipal(), novo.getPrincipal());
+        registrar(d.alteracoes);
+    }
+
+    /**
+     * Contatos rebaixados em lote ao definir outro contato como principal
+     */
+    public void registrarPrincipalRemovido(Long funcionarioId, List<Long> contatoIds) {
+        List<AlteracaoAuditoria> alteracoes = new ArrayList<>(contatoIds.size());
+        for (Long contatoId : contatoIds) {
+            alteracoes.add(alteracao(Entidade.CONTATO, contatoId, funcionarioId, Operacao.ALTERACAO,
+                    "principal", Boolean.TRUE, Boolean.FALSE));
+        }
+        registrar(alteracoes);
+    }
+
+    public void registrarExclusaoContato(Long contatoId, Long funcionarioId) {
+        registrar(List.of(alteracao(Entidade.CONTATO, contatoId, funcionarioId,
+                Operacao.EXCLUSAO, null, null, null)));
+    }
+
+    // Métodos auxiliares
+    /**
+     * Entrega ao gravador e ao barramento de eventos após o commit; fora de transação, entrega imediatamente
+     */
+    private void registrar(List<AlteracaoAuditoria> alteracoes) {
+        if (alteracoes.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entregar(alteracoes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entregar(alteracoes);
+            }
+        });
+    }
+
+    private void entregar(List<AlteracaoAuditoria> alteracoes) {
+        gravadorAuditoria.enfileirar(alteracoes);
+        eventos.publishEvent(new EventoAlteracoes(alteracoes));
+    }
+
+    private AlteracaoAuditoria alteracao(Entidade entidade, Long entidadeId, Long funcionarioId, Operacao operacao,
+                                         String campo, Object valorAnterior, Object valorNovo) {
+        return new AlteracaoAuditoria(null, entidade, entidadeId, funcionarioId, operacao, campo,
+                texto(valorAnterior), texto(valorNovo), usuarioAtual(), LocalDateTime.now());
+    }
+
+    /**
+     * Usuário informado no header X-Usuario da requisição atual (a API ainda não tem autenticação)
+     */
+    private static String usuarioAtual() {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        if (atributos instanceof ServletRequestAttributes servlet) {
+            String usuario = servlet.getRequest().getHeader(HEADER_USUARIO);
+            if (usuario != null && !usuario.isBlank()) {
+                return usuario.length() > 100 ? usuario.substring(0, 100) : usuario;
+            }
+        }
+        return USUARIO_SISTEMA;
+    }
+
+    private static String texto(Object valor) {
+        if (valor == null) {
+            return null;
+        }
+        String texto = valor.toString();
+        return texto.length() > TAMANHO_MAXIMO_VALOR ? texto.substring(0, TAMANHO_MAXIMO_VALOR) : texto;
+    }
+
+    /**
+     * Acumula uma AlteracaoAuditoria por campo cujo valor mudou
+     */
+    private final class Diferencas {
+
+        private final Entidade entidade;
+        private final Long entidadeId;
+        private final Long funcionarioId;
+        private final List<AlteracaoAuditoria> alteracoes = new ArrayList<>();
+
+        private Diferencas(Entidade entidade, Long entidadeId, Long funcionarioId) {
+            this.entidade = entidade;
+            this.entidadeId = entidadeId;
+            this.funcionarioId = funcionarioId;
+        }
+
+        private void comparar(String campo, Object anterior, Object novo) {
+            if (!Objects.equals(anterior, novo)) {
+                alteracoes.add(alteracao(entidade, entidadeId, funcionarioId, Operacao.ALTERACAO,
+                        campo, anterior, novo));
+            }
+        }
+    }
+}
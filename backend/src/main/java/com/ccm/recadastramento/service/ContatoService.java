@@ -3,17 +3,24 @@ package com.ccm.recadastramento.service;
 import com.ccm.recadastramento.dto.ContatoDTO;
 import com.ccm.recadastramento.entity.Contato;
 import com.ccm.recadastramento.entity.Funcionario;
+import com.ccm.recadastramento.exception.BadRequestException;
+import com.ccm.recadastramento.exception.PreconditionFailedException;
 import com.ccm.recadastramento.exception.ResourceNotFoundException;
+import com.ccm.recadastramento.mapper.ContatoMapper;
 import com.ccm.recadastramento.repository.ContatoRepository;
 import com.ccm.recadastramento.repository.FuncionarioRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Service para gerenciar Contatos
@@ -21,11 +28,16 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "recadastramento.service", histogram = true)
 public class ContatoService {
 
+    public static final int MAXIMO_FUNCIONARIOS_POR_LOTE = 500;
+
     private final ContatoRepository contatoRepository;
     private final FuncionarioRepository funcionarioRepository;
-    private final ModelMapper modelMapper;
+    private final ContatoMapper contatoMapper;
+    private final AuditoriaService auditoriaService;
+    private final SincronizacaoService sincronizacaoService;
 
     /**
      * Lista contatos de um funcionário
@@ -33,10 +45,31 @@ public class ContatoService {
     @Transactional(readOnly = true)
     public List<ContatoDTO> listarPorFuncionario(Long funcionarioId) {
         log.debug("Listando contatos do funcionário ID: {}", funcionarioId);
-        return contatoRepository.findByFuncionarioId(funcionarioId)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return contatoRepository.findDTOsByFuncionarioId(funcionarioId);
+    }
+
+    /**
+     * Lista contatos de vários funcionários com uma única consulta IN, agrupados por funcionário.
+     * Todo ID solicitado aparece no resultado (lista vazia quando não há contatos).
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<ContatoDTO>> listarPorFuncionarios(Collection<Long> funcionarioIds) {
+        log.debug("Listando contatos de {} funcionários", funcionarioIds.size());
+
+        if (funcionarioIds.size() > MAXIMO_FUNCIONARIOS_POR_LOTE) {
+            throw new BadRequestException("Informe no máximo " + MAXIMO_FUNCIONARIOS_POR_LOTE + " funcionários por consulta");
+        }
+
+        Map<Long, List<ContatoDTO>> agrupados = new LinkedHashMap<>();
+        funcionarioIds.forEach(id -> agrupados.put(id, new ArrayList<>()));
+        if (agrupados.isEmpty()) {
+            return agrupados;
+        }
+
+        for (ContatoDTO contato : contatoRepository.findDTOsByFuncionarioIdIn(agrupados.keySet())) {
+            agrupados.get(contato.getFuncionarioId()).add(contato);
+        }
+        return agrupados;
     }
 
     /**
@@ -45,72 +78,156 @@ public class ContatoService {
     @Transactional(readOnly = true)
     public ContatoDTO buscarPorId(Long id) {
         log.debug("Buscando contato ID: {}", id);
-        Contato contato = contatoRepository.findById(id)
+        return contatoRepository.findDTOById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Contato não encontrado com ID: " + id));
-        return convertToDTO(contato);
     }
 
     /**
-     * Cria novo contato
+     * Cria novo contato; se for principal, os demais do mesmo tipo deixam de ser
      */
     @Transactional
     public ContatoDTO criar(ContatoDTO dto) {
         log.debug("Criando contato para funcionário ID: {}", dto.getFuncionarioId());
 
-        Funcionario funcionario = funcionarioRepository.findById(dto.getFuncionarioId())
-                .orElseThrow(() -> new ResourceNotFoundException("Funcionário não encontrado com ID: " + dto.getFuncionarioId()));
+        boolean principal = Boolean.TRUE.equals(dto.getPrincipal());
+        Long funcionarioId = dto.getFuncionarioId();
+        Funcionario funcionario = (principal
+                ? funcionarioRepository.findParaAtualizacaoById(funcionarioId)
+                : funcionarioRepository.findById(funcionarioId))
+                .orElseThrow(() -> new ResourceNotFoundException("Funcionário não encontrado com ID: " + funcionarioId));
+        if (principal) {
+            rebaixarOutrosPrincipais(funcionarioId, dto.getTipo(), null);
+        }
 
         Contato contato = convertToEntity(dto);
         contato.setFuncionario(funcionario);
 
         Contato saved = contatoRepository.save(contato);
         log.info("Contato criado com ID: {}", saved.getId());
-        return convertToDTO(saved);
+        ContatoDTO criado = convertToDTO(saved);
+        auditoriaService.registrarCriacao(criado);
+        return criado;
     }
 
     /**
-     * Atualiza contato existente
+     * Atualiza contato existente; se passar a ser principal, os demais do mesmo tipo deixam de ser.
+     * Com versaoEsperada (If-Match), recusa a gravação se o registro já estiver em outra versão.
      */
     @Transactional
-    public ContatoDTO atualizar(Long id, ContatoDTO dto) {
+    public ContatoDTO atualizar(Long id, ContatoDTO dto, Long versaoEsperada) {
         log.debug("Atualizando contato ID: {}", id);
 
         Contato contato = contatoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Contato não encontrado com ID: " + id));
+        verificarVersao(versaoEsperada, contato.getVersao(), "Contato " + id);
+
+        if (Boolean.TRUE.equals(dto.getPrincipal())) {
+            Long funcionarioId = contato.getFuncionario().getId();
+            travarFuncionario(funcionarioId);
+            rebaixarOutrosPrincipais(funcionarioId, dto.getTipo(), id);
+        }
 
-        contato.setTipo(dto.getTipo());
-        contato.setValor(dto.getValor());
-        contato.setDescricao(dto.getDescricao());
-        contato.setPrincipal(dto.getPrincipal());
+        ContatoDTO anterior = convertToDTO(contato);
+        contatoMapper.atualizar(dto, contato);
 
-        Contato updated = contatoRepository.save(contato);
+        // flush para que a nova versão (ETag) já esteja na resposta
+        Contato updated = contatoRepository.saveAndFlush(contato);
         log.info("Contato atualizado ID: {}", id);
-        return convertToDTO(updated);
+        ContatoDTO atualizado = convertToDTO(updated);
+        auditoriaService.registrarAlteracao(anterior, atualizado);
+        return atualizado;
+    }
+
+    /**
+     * Torna o contato o principal do seu tipo numa única operação: os demais principais do
+     * mesmo funcionário e tipo são rebaixados por um UPDATE em lote na mesma transação.
+     * O funcionário fica bloqueado (FOR UPDATE) até o commit, serializando chamadas concorrentes;
+     * o índice único parcial uk_contatos_principal_por_tipo garante a regra no banco.
+     */
+    @Transactional
+    public ContatoDTO definirPrincipal(Long id, Long versaoEsperada) {
+        log.debug("Definindo contato ID {} como principal", id);
+
+        Contato contato = contatoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Contato não encontrado com ID: " + id));
+        verificarVersao(versaoEsperada, contato.getVersao(), "Contato " + id);
+
+        Long funcionarioId = contato.getFuncionario().getId();
+        travarFuncionario(funcionarioId);
+        rebaixarOutrosPrincipais(funcionarioId, contato.getTipo(), id);
+
+        ContatoDTO anterior = convertToDTO(contato);
+        contato.setPrincipal(true);
+
+        Contato updated = contatoRepository.saveAndFlush(contato);
+        log.info("Contato ID {} definido como principal ({})", id, contato.getTipo());
+        ContatoDTO atualizado = convertToDTO(updated);
+        auditoriaService.registrarAlteracao(anterior, atualizado);
+        return atualizado;
     }
 
     /**
-     * Deleta contato
+     * Deleta contato (com versaoEsperada, apenas se ainda estiver nessa versão).
+     * Uma única instrução: a versão vai no WHERE do DELETE, e só o caminho de erro consulta de novo
+     * para distinguir contato inexistente (404) de versão desatualizada (412).
      */
     @Transactional
-    public void deletar(Long id) {
+    public void deletar(Long id, Long versaoEsperada) {
         log.debug("Deletando contato ID: {}", id);
 
-        if (!contatoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Contato não encontrado com ID: " + id);
+        Optional<Long> funcionarioId = versaoEsperada == null
+                ? contatoRepository.excluirPorId(id)
+                : contatoRepository.excluirPorIdEVersao(id, versaoEsperada);
+        if (funcionarioId.isEmpty()) {
+            Long versaoAtual = contatoRepository.findVersaoById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Contato não encontrado com ID: " + id));
+            throw new PreconditionFailedException("Contato " + id + " foi alterado (versão atual: "
+                    + versaoAtual + ", esperada: " + versaoEsperada + ")");
         }
 
-        contatoRepository.deleteById(id);
+        sincronizacaoService.registrarExclusaoContato(id, funcionarioId.get());
+        auditoriaService.registrarExclusaoContato(id, funcionarioId.get());
         log.info("Contato deletado ID: {}", id);
     }
 
+    /**
+     * Compara a versão esperada (If-Match) com a versão atual; nula quando o cliente não enviou If-Match
+     */
+    private void verificarVersao(Long versaoEsperada, Long versaoAtual, String descricao) {
+        if (versaoEsperada != null && !versaoEsperada.equals(versaoAtual)) {
+            throw new PreconditionFailedException(descricao + " foi alterado (versão atual: " + versaoAtual
+                    + ", esperada: " + versaoEsperada + ")");
+        }
+    }
+
+    // Métodos auxiliares de contato principal
+    private void travarFuncionario(Long funcionarioId) {
+        funcionarioRepository.findParaAtualizacaoById(funcionarioId)
+                .orElseThrow(() -> new ResourceNotFoundException("Funcionário não encontrado com ID: " + funcionarioId));
+    }
+
+    /**
+     * Rebaixa os principais do tipo, exceto o contato mantido; deve rodar com o funcionário bloqueado
+     * e antes do flush do novo principal, para não violar o índice único parcial
+     */
+    private void rebaixarOutrosPrincipais(Long funcionarioId, String tipo, Long idMantido) {
+        List<Long> ids = new ArrayList<>(contatoRepository.findIdsPrincipais(funcionarioId, tipo));
+        if (idMantido != null) {
+            ids.remove(idMantido);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        contatoRepository.rebaixarPrincipais(ids);
+        auditoriaService.registrarPrincipalRemovido(funcionarioId, ids);
+    }
+
     // Métodos auxiliares de conversão
     private ContatoDTO convertToDTO(Contato entity) {
-        ContatoDTO dto = modelMapper.map(entity, ContatoDTO.class);
-        dto.setFuncionarioId(entity.getFuncionario().getId());
-        return dto;
+        return contatoMapper.toDTO(entity);
     }
 
     private Contato convertToEntity(ContatoDTO dto) {
-        return modelMapper.map(dto, Contato.class);
+        return contatoMapper.toEntity(dto);
     }
 }
@@ -0,0 +1,12 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.entity.AlteracaoAuditoria;
+
+import java.util.List;
+
+/**
+ * Evento publicado no barramento da aplicação depois do commit de uma escrita em funcionários ou contatos,
+ * com as mesmas alterações entregues à trilha de auditoria
+ */
+public record EventoAlteracoes(List<AlteracaoAuditoria> alteracoes) {
+}
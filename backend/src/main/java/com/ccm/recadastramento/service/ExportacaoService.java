@@ -0,0 +1,247 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.dto.FichaFuncionarioDTO;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.exception.BadRequestException;
+import com.ccm.recadastramento.repository.ContatoRepository;
+import com.ccm.recadastramento.repository.FuncionarioRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service para exportação completa do cadastro (funcionários com contatos).
+ * Percorre funcionários e contatos com dois cursores no servidor, ambos ordenados
+ * por ID do funcionário e projetados direto em DTO (sem contexto de persistência),
+ * e faz o merge em memória constante, sem N+1.
+ * Além de NDJSON e CSV, exporta em CBOR (sequência de itens, RFC 8742) e Smile.
+ */
+@Service
+@Slf4j
+@Timed(value = "recadastramento.service", histogram = true)
+public class ExportacaoService {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private static final String CABECALHO_CSV = "id,cpf,nome,nome_social,data_nascimento,raca_cor,sexo,"
+            + "nacionalidade,estado_nascimento,cidade_nascimento,telefone,"
+            + "contato_id,contato_tipo,contato_valor,contato_descricao,contato_principal";
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final ContatoRepository contatoRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+
+    public ExportacaoService(FuncionarioRepository funcionarioRepository, ContatoRepository contatoRepository,
+                             ObjectMapper objectMapper) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.contatoRepository = contatoRepository;
+        this.objectMapper = objectMapper;
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    public enum FormatoExportacao {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv"),
+        CBOR("application/cbor-seq", "cbor"),
+        SMILE("application/x-jackson-smile", "smile");
+
+        /**
+         * Item CBOR avulso (RFC 8949); aceito como pedido de CBOR, que é entregue como sequência
+         */
+        private static final MediaType CBOR_ITEM = MediaType.parseMediaType("application/cbor");
+
+        private final String contentType;
+        private final String extensao;
+
+        FormatoExportacao(String contentType, String extensao) {
+            this.contentType = contentType;
+            this.extensao = extensao;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtensao() {
+            return extensao;
+        }
+
+        public static FormatoExportacao de(String valor) {
+            for (FormatoExportacao formato : values()) {
+                if (formato.extensao.equalsIgnoreCase(valor)) {
+                    return formato;
+                }
+            }
+            throw new BadRequestException("Formato de exportação inválido: " + valor
+                    + " (use ndjson, csv, cbor ou smile)");
+        }
+
+        /**
+         * Escolhe o formato pelo header Accept (na ordem de preferência do cliente); NDJSON quando nenhum casa
+         */
+        public static FormatoExportacao deAccept(String accept) {
+            if (accept == null || accept.isBlank()) {
+                return NDJSON;
+            }
+            List<MediaType> aceitos = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(aceitos);
+            for (MediaType aceito : aceitos) {
+                if (aceito.isWildcardType()) {
+                    continue;
+                }
+                for (FormatoExportacao formato : values()) {
+                    MediaType tipo = MediaType.parseMediaType(formato.contentType);
+                    if (aceito.isCompatibleWith(tipo) || (formato == CBOR && aceito.equalsTypeAndSubtype(CBOR_ITEM))) {
+                        return formato;
+                    }
+                }
+            }
+            return NDJSON;
+        }
+
+        public boolean isBinario() {
+            return this == CBOR || this == SMILE;
+        }
+    }
+
+    /**
+     * Escreve todos os funcionários com seus contatos no stream informado
+     */
+    @Transactional(readOnly = true)
+    public void exportar(FormatoExportacao formato, OutputStream out) throws IOException {
+        log.debug("Exportando cadastro completo em {}", formato);
+
+        OutputStream buffer = null;
+        Writer writer = null;
+        JsonGenerator generator;
+        if (formato.isBinario()) {
+            buffer = new BufferedOutputStream(out, TAMANHO_BUFFER);
+            ObjectMapper mapper = formato == FormatoExportacao.CBOR ? cborMapper : smileMapper;
+            generator = mapper.createGenerator(buffer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } else {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+            generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+        }
+
+        if (formato == FormatoExportacao.CSV) {
+            writer.write(CABECALHO_CSV);
+            writer.write('\n');
+        }
+
+        long total = 0;
+        try (Stream<FuncionarioDTO> funcionarios = funcionarioRepository.streamTodosOrdenadosPorId();
+             Stream<ContatoDTO> contatos = contatoRepository.streamTodosOrdenadosPorFuncionario()) {
+
+            Iterator<ContatoDTO> itContatos = contatos.iterator();
+            ContatoDTO pendente = itContatos.hasNext() ? itContatos.next() : null;
+
+            for (Iterator<FuncionarioDTO> it = funcionarios.iterator(); it.hasNext(); ) {
+                FuncionarioDTO funcionarioDTO = it.next();
+                Long funcionarioId = funcionarioDTO.getId();
+
+                List<ContatoDTO> contatosDTO = new ArrayList<>();
+                while (pendente != null && pendente.getFuncionarioId() <= funcionarioId) {
+                    if (pendente.getFuncionarioId().equals(funcionarioId)) {
+                        contatosDTO.add(pendente);
+                    }
+                    pendente = itContatos.hasNext() ? itContatos.next() : null;
+                }
+
+                if (formato == FormatoExportacao.CSV) {
+                    escreverCsv(writer, funcionarioDTO, contatosDTO);
+                } else {
+                    generator.writeObject(new FichaFuncionarioDTO(funcionarioDTO, contatosDTO));
+                    if (writer != null) {
+                        // NDJSON: o gerador tem buffer próprio, esvazia antes da quebra de linha
+                        generator.flush();
+                        writer.write('\n');
+                    }
+                }
+                total++;
+            }
+        }
+
+        generator.close();
+        if (writer != null) {
+            writer.flush();
+        } else {
+            buffer.flush();
+        }
+        log.info("Exportação concluída: {} funcionários em {}", total, formato);
+    }
+
+    // Métodos auxiliares de escrita CSV
+    private void escreverCsv(Writer writer, FuncionarioDTO f, List<ContatoDTO> contatos) throws IOException {
+        if (contatos.isEmpty()) {
+            escreverLinhaCsv(writer, f, null);
+            return;
+        }
+        for (ContatoDTO contato : contatos) {
+            escreverLinhaCsv(writer, f, contato);
+        }
+    }
+
+    private void escreverLinhaCsv(Writer writer, FuncionarioDTO f, ContatoDTO c) throws IOException {
+        escreverCampo(writer, f.getId(), true);
+        escreverCampo(writer, f.getCpf(), true);
+        escreverCampo(writer, f.getNome(), true);
+        escreverCampo(writer, f.getNomeSocial(), true);
+        escreverCampo(writer, f.getDataNascimento(), true);
+        escreverCampo(writer, f.getRacaCor(), true);
+        escreverCampo(writer, f.getSexo(), true);
+        escreverCampo(writer, f.getNacionalidade(), true);
+        escreverCampo(writer, f.getEstadoNascimento(), true);
+        escreverCampo(writer, f.getCidadeNascimento(), true);
+        escreverCampo(writer, f.getTelefone(), true);
+        escreverCampo(writer, c == null ? null : c.getId(), true);
+        escreverCampo(writer, c == null ? null : c.getTipo(), true);
+        escreverCampo(writer, c == null ? null : c.getValor(), true);
+        escreverCampo(writer, c == null ? null : c.getDescricao(), true);
+        escreverCampo(writer, c == null ? null : c.getPrincipal(), false);
+        writer.write('\n');
+    }
+
+    private void escreverCampo(Writer writer, Object valor, boolean separador) throws IOException {
+        if (valor != null) {
+            String texto = valor.toString();
+            boolean escapar = texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0
+                    || texto.indexOf('\n') >= 0 || texto.indexOf('\r') >= 0;
+            if (escapar) {
+                writer.write('"');
+                writer.write(texto.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(texto);
+            }
+        }
+        if (separador) {
+            writer.write(',');
+        }
+    }
+}
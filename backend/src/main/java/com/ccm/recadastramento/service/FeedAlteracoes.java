@@ -0,0 +1,275 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.AvisoAlteracaoDTO;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Operacao;
+import com.ccm.recadastramento.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Feed de alterações em Server-Sent Events, para painéis que acompanham o recadastramento sem polling.
+ * Recebe pelo barramento de eventos da aplicação as escritas já confirmadas (EventoAlteracoes) e avisa
+ * os inscritos qual registro mudou; os dados em si são buscados pela sincronização incremental.
+ * <p>
+ * O barramento é em memória: cada instância avisa apenas as escritas feitas nela. Cada evento é
+ * serializado uma vez e entra na fila limitada de cada inscrito; o envio (que bloqueia no socket)
+ * sai de uma thread por inscrito com fila pendente, então um cliente lento não atrasa os outros nem
+ * o comentário periódico que mantém a conexão aberta nos proxies. Inscrito com a fila cheia é
+ * desconectado: o EventSource reconecta e recupera o que perdeu pela sincronização incremental.
+ */
+@Component
+@Slf4j
+public class FeedAlteracoes implements SmartLifecycle {
+
+    public static final String EVENTO_ALTERACOES = "alteracoes";
+    public static final String EVENTO_LOTE = "lote";
+
+    /**
+     * Acima disso (importações), o evento traz só a quantidade e o cliente usa a sincronização incremental
+     */
+    private static final int MAXIMO_AVISOS_POR_EVENTO = 100;
+
+    private final Map<SseEmitter, Inscrito> inscritos = new ConcurrentHashMap<>();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final int maxInscritos;
+    private final int filaPorInscrito;
+    private final Duration duracaoMaxima;
+    private final Duration intervaloPulso;
+    private final Counter enviados;
+    private final Counter lentos;
+
+    private volatile boolean rodando;
+    private ScheduledExecutorService pulso;
+    private ExecutorService envios;
+
+    public FeedAlteracoes(MeterRegistry meterRegistry,
+                          @Value("${app.sincronizacao.feed.max-inscritos:200}") int maxInscritos,
+                          @Value("${app.sincronizacao.feed.fila-por-inscrito:32}") int filaPorInscrito,
+                          @Value("${app.sincronizacao.feed.duracao-maxima:30m}") Duration duracaoMaxima,
+                          @Value("${app.sincronizacao.feed.intervalo-pulso:25s}") Duration intervaloPulso) {
+        this.maxInscritos = maxInscritos;
+        this.filaPorInscrito = filaPorInscrito;
+        this.duracaoMaxima = duracaoMaxima;
+        this.intervaloPulso = intervaloPulso;
+
+        Gauge.builder("recadastramento.feed.inscritos", inscritos, Map::size)
+                .description("Clientes conectados ao feed de alterações")
+                .register(meterRegistry);
+        this.enviados = Counter.builder("recadastramento.feed.eventos")
+                .description("Eventos enviados pelo feed de alterações (um por inscrito)")
+                .register(meterRegistry);
+        this.lentos = Counter.builder("recadastramento.feed.desconectados")
+                .description("Inscritos desconectados por não acompanharem os eventos (fila cheia)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Novo inscrito; a conexão é encerrada após a duração máxima (o EventSource reconecta sozinho)
+     */
+    public SseEmitter inscrever() {
+        if (!rodando || inscritos.size() >= maxInscritos) {
+            throw new ServiceUnavailableException("Feed de alterações sem vagas para novos inscritos",
+                    intervaloPulso.toSeconds());
+        }
+        SseEmitter emissor = new SseEmitter(duracaoMaxima.toMillis());
+        emissor.onCompletion(() -> inscritos.remove(emissor));
+        emissor.onTimeout(emissor::complete);
+        emissor.onError(erro -> inscritos.remove(emissor));
+        try {
+            // envia os headers já na inscrição, sem esperar a primeira alteração
+            emissor.send(SseEmitter.event().comment("inscrito").reconnectTime(intervaloPulso.toMillis()));
+        } catch (IOException e) {
+            emissor.completeWithError(e);
+            return emissor;
+        }
+        inscritos.put(emissor, new Inscrito(emissor));
+        return emissor;
+    }
+
+    /**
+     * Chamado na thread que confirmou a transação: monta o evento uma vez e o enfileira para cada inscrito
+     */
+    @EventListener
+    public void aoConfirmar(EventoAlteracoes evento) {
+        if (!rodando || inscritos.isEmpty()) {
+            return;
+        }
+        List<AvisoAlteracaoDTO> avisos = avisos(evento.alteracoes());
+        SseEventBuilder mensagem = SseEmitter.event().id(String.valueOf(sequencia.incrementAndGet()));
+        if (avisos.size() > MAXIMO_AVISOS_POR_EVENTO) {
+            mensagem.name(EVENTO_LOTE).data(Map.of("quantidade", avisos.size()));
+        } else {
+            mensagem.name(EVENTO_ALTERACOES).data(avisos);
+        }
+        distribuir(new Mensagem(mensagem.build(), true));
+    }
+
+    private void distribuir(Mensagem mensagem) {
+        for (Inscrito inscrito : inscritos.values()) {
+            inscrito.entregar(mensagem);
+        }
+    }
+
+    /**
+     * Um aviso por registro (as alterações de auditoria são por campo); a exclusão prevalece
+     */
+    private static List<AvisoAlteracaoDTO> avisos(List<AlteracaoAuditoria> alteracoes) {
+        Map<String, AvisoAlteracaoDTO> porRegistro = new LinkedHashMap<>();
+        for (AlteracaoAuditoria alteracao : alteracoes) {
+            AvisoAlteracaoDTO aviso = new AvisoAlteracaoDTO(alteracao.getEntidade(), alteracao.getOperacao(),
+                    alteracao.getEntidadeId(), alteracao.getFuncionarioId());
+            String chave = alteracao.getEntidade() + "|" + alteracao.getEntidadeId();
+            if (alteracao.getOperacao() == Operacao.EXCLUSAO) {
+                porRegistro.put(chave, aviso);
+            } else {
+                porRegistro.putIfAbsent(chave, aviso);
+            }
+        }
+        return new ArrayList<>(porRegistro.values());
+    }
+
+    @Override
+    public void start() {
+        pulso = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "feed-alteracoes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger numero = new AtomicInteger();
+        // No máximo um envio por inscrito; o dobro cobre os que ainda terminam de sair
+        envios = new ThreadPoolExecutor(0, maxInscritos * 2, 30, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+            Thread thread = new Thread(r, "feed-alteracoes-envio-" + numero.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Mensagem comentario = new Mensagem(SseEmitter.event().comment("pulso").build(), false);
+        long intervalo = intervaloPulso.toMillis();
+        pulso.scheduleAtFixedRate(() -> distribuir(comentario), intervalo, intervalo, TimeUnit.MILLISECONDS);
+        rodando = true;
+    }
+
+    /**
+     * Encerra as conexões abertas antes de o servidor web parar
+     */
+    @Override
+    public void stop() {
+        rodando = false;
+        pulso.shutdown();
+        envios.shutdown();
+        for (SseEmitter emissor : inscritos.keySet()) {
+            emissor.complete();
+        }
+        inscritos.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return rodando;
+    }
+
+    /**
+     * Evento já serializado (montado uma vez para todos os inscritos); comentários de pulso não contam
+     */
+    private record Mensagem(Set<DataWithMediaType> dados, boolean evento) {
+    }
+
+    /**
+     * Um cliente conectado: os eventos ainda não enviados e no máximo um envio em andamento
+     */
+    private final class Inscrito implements Runnable {
+
+        private final SseEmitter emissor;
+        private final BlockingQueue<Mensagem> pendentes = new ArrayBlockingQueue<>(filaPorInscrito);
+        private final AtomicBoolean enviando = new AtomicBoolean();
+        private volatile boolean encerrar;
+
+        private Inscrito(SseEmitter emissor) {
+            this.emissor = emissor;
+        }
+
+        /**
+         * Não bloqueia: com a fila cheia o inscrito sai do feed, e a conexão é encerrada pela thread de envio
+         */
+        private void entregar(Mensagem mensagem) {
+            if (!pendentes.offer(mensagem)) {
+                if (inscritos.remove(emissor) != null) {
+                    lentos.increment();
+                    log.debug("Inscrito lento removido do feed de alterações ({} eventos pendentes)",
+                            pendentes.size());
+                }
+                encerrar = true;
+            }
+            agendar();
+        }
+
+        private void agendar() {
+            if (!enviando.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                envios.execute(this);
+            } catch (RejectedExecutionException e) {
+                enviando.set(false);
+                inscritos.remove(emissor);
+                log.debug("Sem thread de envio para o inscrito; removido do feed de alterações");
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Mensagem mensagem;
+                while (!encerrar && (mensagem = pendentes.poll()) != null) {
+                    emissor.send(mensagem.dados());
+                    if (mensagem.evento()) {
+                        enviados.increment();
+                    }
+                }
+                if (encerrar) {
+                    emissor.complete();
+                    return;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // cliente desconectado: o container encerra a requisição assíncrona
+                inscritos.remove(emissor);
+                log.debug("Inscrito removido do feed de alterações: {}", e.getMessage());
+                return;
+            }
+            enviando.set(false);
+            if (!pendentes.isEmpty()) {
+                agendar();
+            }
+        }
+    }
+}
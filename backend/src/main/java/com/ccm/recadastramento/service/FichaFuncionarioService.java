@@ -0,0 +1,189 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.dto.FichaFuncionarioDTO;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.entity.Contato;
+import com.ccm.recadastramento.entity.Funcionario;
+import com.ccm.recadastramento.exception.BadRequestException;
+import com.ccm.recadastramento.exception.ResourceNotFoundException;
+import com.ccm.recadastramento.mapper.ContatoMapper;
+import com.ccm.recadastramento.mapper.FuncionarioMapper;
+import com.ccm.recadastramento.repository.ContatoRepository;
+import com.ccm.recadastramento.repository.FuncionarioRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service da ficha completa (funcionário + contatos).
+ * A leitura é uma única consulta; a escrita aplica funcionário e contatos numa única transação,
+ * reaproveitando as regras de FuncionarioService e ContatoService (cache, versão, auditoria,
+ * contato principal).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "recadastramento.service", histogram = true)
+public class FichaFuncionarioService {
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final ContatoRepository contatoRepository;
+    private final FuncionarioService funcionarioService;
+    private final ContatoService contatoService;
+    private final FuncionarioMapper funcionarioMapper;
+    private final ContatoMapper contatoMapper;
+    private final Validator validator;
+
+    /**
+     * Busca a ficha por ID
+     */
+    @Transactional(readOnly = true)
+    public FichaFuncionarioDTO buscarPorId(Long id) {
+        log.debug("Buscando ficha do funcionário ID: {}", id);
+        return montarFicha(funcionarioRepository.findFichaById(id), "ID: " + id);
+    }
+
+    /**
+     * Busca a ficha por CPF
+     */
+    @Transactional(readOnly = true)
+    public FichaFuncionarioDTO buscarPorCpf(String cpf) {
+        log.debug("Buscando ficha do funcionário CPF: {}", cpf);
+        return montarFicha(funcionarioRepository.findFichaByCpfNumero(FuncionarioService.cpfNumerico(cpf)), "CPF: " + cpf);
+    }
+
+    /**
+     * Cria funcionário e contatos numa única transação
+     */
+    @Transactional
+    public FichaFuncionarioDTO criar(FichaFuncionarioDTO ficha) {
+        List<ContatoDTO> contatos = contatos(ficha);
+        validarPrincipais(contatos);
+
+        FuncionarioDTO criado = funcionarioService.criar(ficha.getFuncionario());
+        for (ContatoDTO contato : contatos) {
+            contato.setId(null);
+        }
+        associarEValidar(contatos, criado.getId());
+        for (ContatoDTO contato : ordenarPorPrincipal(contatos)) {
+            contatoService.criar(contato);
+        }
+
+        log.info("Ficha criada para funcionário ID: {} ({} contatos)", criado.getId(), contatos.size());
+        return buscarPorId(criado.getId());
+    }
+
+    /**
+     * Substitui a ficha: atualiza o funcionário e deixa os contatos exatamente como na lista recebida
+     * (sem ID: criados; com ID: atualizados; ausentes: removidos). A versão de cada contato, quando
+     * informada, é verificada como no If-Match.
+     */
+    @Transactional
+    public FichaFuncionarioDTO atualizar(Long id, FichaFuncionarioDTO ficha, Long versaoEsperada) {
+        List<ContatoDTO> contatos = contatos(ficha);
+        validarPrincipais(contatos);
+        associarEValidar(contatos, id);
+
+        funcionarioService.atualizar(id, ficha.getFuncionario(), versaoEsperada);
+
+        // Carrega os contatos atuais no contexto de persistência: as atualizações abaixo não consultam de novo
+        Map<Long, Contato> existentes = new LinkedHashMap<>();
+        for (Contato contato : contatoRepository.findByFuncionarioId(id)) {
+            existentes.put(contato.getId(), contato);
+        }
+
+        Set<Long> mantidos = new HashSet<>();
+        for (ContatoDTO contato : contatos) {
+            if (contato.getId() != null) {
+                if (!existentes.containsKey(contato.getId())) {
+                    throw new ResourceNotFoundException("Contato " + contato.getId()
+                            + " não pertence ao funcionário ID: " + id);
+                }
+                if (!mantidos.add(contato.getId())) {
+                    throw new BadRequestException("Contato " + contato.getId() + " repetido na ficha");
+                }
+            }
+        }
+
+        for (Contato existente : existentes.values()) {
+            if (!mantidos.contains(existente.getId())) {
+                contatoService.deletar(existente.getId(), null);
+            }
+        }
+        // Principais por último: o rebaixamento em lote só atinge contatos que não serão mais gravados
+        for (ContatoDTO contato : ordenarPorPrincipal(contatos)) {
+            if (contato.getId() == null) {
+                contatoService.criar(contato);
+            } else {
+                contatoService.atualizar(contato.getId(), contato, contato.getVersao());
+            }
+        }
+
+        log.info("Ficha atualizada para funcionário ID: {} ({} contatos)", id, contatos.size());
+        return buscarPorId(id);
+    }
+
+    // Métodos auxiliares
+    private FichaFuncionarioDTO montarFicha(List<Object[]> linhas, String chave) {
+        if (linhas.isEmpty()) {
+            throw new ResourceNotFoundException("Funcionário não encontrado com " + chave);
+        }
+        FuncionarioDTO funcionario = funcionarioMapper.toDTO((Funcionario) linhas.get(0)[0]);
+        List<ContatoDTO> contatos = new ArrayList<>(linhas.size());
+        for (Object[] linha : linhas) {
+            if (linha[1] != null) {
+                contatos.add(contatoMapper.toDTO((Contato) linha[1]));
+            }
+        }
+        return new FichaFuncionarioDTO(funcionario, contatos);
+    }
+
+    private static List<ContatoDTO> contatos(FichaFuncionarioDTO ficha) {
+        return ficha.getContatos() == null ? List.of() : ficha.getContatos();
+    }
+
+    /**
+     * Associa os contatos ao funcionário e aplica a Bean Validation (o corpo não precisa repetir o funcionarioId)
+     */
+    private void associarEValidar(List<ContatoDTO> contatos, Long funcionarioId) {
+        List<String> erros = new ArrayList<>();
+        for (int i = 0; i < contatos.size(); i++) {
+            ContatoDTO contato = contatos.get(i);
+            contato.setFuncionarioId(funcionarioId);
+            for (ConstraintViolation<ContatoDTO> violacao : validator.validate(contato)) {
+                erros.add("contatos[" + i + "]." + violacao.getPropertyPath() + ": " + violacao.getMessage());
+            }
+        }
+        if (!erros.isEmpty()) {
+            throw new BadRequestException("Contatos inválidos: " + String.join("; ", erros));
+        }
+    }
+
+    private static void validarPrincipais(List<ContatoDTO> contatos) {
+        Set<String> tipos = new HashSet<>();
+        for (ContatoDTO contato : contatos) {
+            if (Boolean.TRUE.equals(contato.getPrincipal()) && !tipos.add(contato.getTipo())) {
+                throw new BadRequestException("Mais de um contato principal do tipo " + contato.getTipo());
+            }
+        }
+    }
+
+    private static List<ContatoDTO> ordenarPorPrincipal(List<ContatoDTO> contatos) {
+        List<ContatoDTO> ordenados = new ArrayList<>(contatos);
+        ordenados.sort(Comparator.comparing(c -> Boolean.TRUE.equals(c.getPrincipal())));
+        return ordenados;
+    }
+}
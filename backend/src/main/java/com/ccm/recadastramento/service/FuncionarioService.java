@@ -1,18 +1,43 @@
 package com.ccm.recadastramento.service;
 
+import com.ccm.recadastramento.config.CacheConfig;
+import com.ccm.recadastramento.dto.FiltroFuncionarioDTO;
+import com.ccm.recadastramento.dto.FiltroFuncionarioDTO.ModoBuscaNome;
 import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.PaginaDTO;
+import com.ccm.recadastramento.dto.ResultadoExclusaoDTO;
 import com.ccm.recadastramento.entity.Funcionario;
+import com.ccm.recadastramento.exception.BadRequestException;
 import com.ccm.recadastramento.exception.ResourceNotFoundException;
 import com.ccm.recadastramento.exception.DuplicateResourceException;
+import com.ccm.recadastramento.exception.PreconditionFailedException;
+import com.ccm.recadastramento.mapper.FuncionarioMapper;
 import com.ccm.recadastramento.repository.FuncionarioRepository;
+import com.ccm.recadastramento.repository.FuncionarioSpecifications;
+import com.ccm.recadastramento.validation.Documentos;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service para gerenciar Funcionários
@@ -20,107 +45,333 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "recadastramento.service", histogram = true)
 public class FuncionarioService {
 
+    public static final int TAMANHO_PAGINA_PADRAO = 20;
+    public static final int TAMANHO_PAGINA_MAXIMO = 100;
+    public static final int MAXIMO_EXCLUSOES_POR_LOTE = 500;
+
+    static final String ORDEM_ID = "id";
+    static final String ORDEM_NOME = "nome";
+
+    /**
+     * Trechos menores não aproveitam o índice trigram
+     */
+    private static final int TAMANHO_MINIMO_TRECHO_NOME = 3;
+
     private final FuncionarioRepository funcionarioRepository;
-    private final ModelMapper modelMapper;
+    private final FuncionarioMapper funcionarioMapper;
+    private final CacheManager cacheManager;
+    private final AuditoriaService auditoriaService;
+    private final SincronizacaoService sincronizacaoService;
+
+    /**
+     * Lista funcionários paginados por cursor (keyset), ordenados por ID ou por nome.
+     * Busca uma linha a mais que o tamanho da página para saber se há próxima página,
+     * sem COUNT e sem OFFSET, mantendo o custo constante em qualquer posição da tabela.
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<FuncionarioDTO> listarPagina(String cursor, Integer tamanho, String ordenarPor) {
+        log.debug("Listando funcionários - cursor: {}, tamanho: {}, ordenarPor: {}", cursor, tamanho, ordenarPor);
+
+        int limite = normalizarTamanho(tamanho);
+        Pageable pageable = PageRequest.ofSize(limite + 1);
+        String ordem = ordenarPor == null ? ORDEM_ID : ordenarPor;
+
+        List<FuncionarioDTO> funcionarios = switch (ordem) {
+            case ORDEM_ID -> funcionarioRepository.findPaginaPorIdApos(
+                    cursor == null ? 0L : decodificarCursorId(cursor), pageable);
+            case ORDEM_NOME -> {
+                if (cursor == null) {
+                    yield funcionarioRepository.findPrimeiraPaginaPorNome(pageable);
+                }
+                String[] chave = decodificarCursorNome(cursor);
+                yield funcionarioRepository.findPaginaPorNomeApos(chave[1], Long.valueOf(chave[0]), pageable);
+            }
+            default -> throw new BadRequestException("Ordenação inválida: " + ordenarPor + " (use id ou nome)");
+        };
+
+        return montarPagina(funcionarios, limite, ordem);
+    }
 
     /**
-     * Lista todos os funcionários
+     * Busca funcionários por filtros (nome, local e data de nascimento, sexo, raça/cor),
+     * paginando por cursor na ordem de ID
      */
     @Transactional(readOnly = true)
-    public List<FuncionarioDTO> listarTodos() {
-        log.debug("Listando todos os funcionários");
-        return funcionarioRepository.findAll()
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public PaginaDTO<FuncionarioDTO> buscar(FiltroFuncionarioDTO filtro, String cursor, Integer tamanho) {
+        log.debug("Buscando funcionários - filtro: {}, cursor: {}, tamanho: {}", filtro, cursor, tamanho);
+
+        if (filtro.getNome() != null && filtro.getModoBuscaNome() == ModoBuscaNome.CONTEM
+                && !filtro.getNome().isBlank() && filtro.getNome().trim().length() < TAMANHO_MINIMO_TRECHO_NOME) {
+            throw new BadRequestException("Informe ao menos " + TAMANHO_MINIMO_TRECHO_NOME
+                    + " caracteres para buscar por trecho do nome");
+        }
+
+        int limite = normalizarTamanho(tamanho);
+        Specification<Funcionario> especificacao = FuncionarioSpecifications.comFiltro(filtro)
+                .and(FuncionarioSpecifications.idMaiorQue(cursor == null ? null : decodificarCursorId(cursor)));
+
+        List<FuncionarioDTO> funcionarios = funcionarioRepository.findDTOs(especificacao, limite + 1);
+        return montarPagina(funcionarios, limite, ORDEM_ID);
     }
 
     /**
      * Busca funcionário por ID
      */
+    @Cacheable(cacheNames = CacheConfig.FUNCIONARIOS_POR_ID, key = "#id")
     @Transactional(readOnly = true)
     public FuncionarioDTO buscarPorId(Long id) {
         log.debug("Buscando funcionário por ID: {}", id);
-        Funcionario funcionario = funcionarioRepository.findById(id)
+        return funcionarioRepository.findDTOById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Funcionário não encontrado com ID: " + id));
-        return convertToDTO(funcionario);
     }
 
     /**
-     * Busca funcionário por CPF
+     * Busca funcionário por CPF (000.000.000-00 ou só os dígitos), pela chave numérica
      */
+    @Cacheable(cacheNames = CacheConfig.FUNCIONARIOS_POR_CPF, key = "T(com.ccm.recadastramento.validation.Documentos).cpfNumerico(#cpf)")
     @Transactional(readOnly = true)
     public FuncionarioDTO buscarPorCpf(String cpf) {
         log.debug("Buscando funcionário por CPF: {}", cpf);
-        Funcionario funcionario = funcionarioRepository.findByCpf(cpf)
+        return funcionarioRepository.findDTOByCpfNumero(cpfNumerico(cpf))
                 .orElseThrow(() -> new ResourceNotFoundException("Funcionário não encontrado com CPF: " + cpf));
-        return convertToDTO(funcionario);
     }
 
     /**
      * Cria novo funcionário
      */
+    @Caching(put = {
+            @CachePut(cacheNames = CacheConfig.FUNCIONARIOS_POR_ID, key = "#result.id"),
+            @CachePut(cacheNames = CacheConfig.FUNCIONARIOS_POR_CPF, key = "T(com.ccm.recadastramento.validation.Documentos).cpfNumerico(#result.cpf)")
+    })
     @Transactional
     public FuncionarioDTO criar(FuncionarioDTO dto) {
         log.debug("Criando novo funcionário com CPF: {}", dto.getCpf());
 
-        if (funcionarioRepository.existsByCpf(dto.getCpf())) {
+        if (funcionarioRepository.existsByCpfNumero(cpfNumerico(dto.getCpf()))) {
             throw new DuplicateResourceException("Já existe um funcionário cadastrado com o CPF: " + dto.getCpf());
         }
 
         Funcionario funcionario = convertToEntity(dto);
         Funcionario saved = funcionarioRepository.save(funcionario);
         log.info("Funcionário criado com ID: {}", saved.getId());
-        return convertToDTO(saved);
+        FuncionarioDTO criado = convertToDTO(saved);
+        auditoriaService.registrarCriacao(criado);
+        return criado;
     }
 
     /**
-     * Atualiza funcionário existente
+     * Atualiza funcionário existente.
+     * Com versaoEsperada (If-Match), recusa a gravação se o registro já estiver em outra versão.
      */
+    @Caching(put = {
+            @CachePut(cacheNames = CacheConfig.FUNCIONARIOS_POR_ID, key = "#id"),
+            @CachePut(cacheNames = CacheConfig.FUNCIONARIOS_POR_CPF, key = "T(com.ccm.recadastramento.validation.Documentos).cpfNumerico(#result.cpf)")
+    })
     @Transactional
-    public FuncionarioDTO atualizar(Long id, FuncionarioDTO dto) {
+    public FuncionarioDTO atualizar(Long id, FuncionarioDTO dto, Long versaoEsperada) {
         log.debug("Atualizando funcionário ID: {}", id);
 
         Funcionario funcionario = funcionarioRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Funcionário não encontrado com ID: " + id));
+        verificarVersao(versaoEsperada, funcionario.getVersao(), "Funcionário " + id);
 
         // Verifica se o CPF já está em uso por outro funcionário
-        if (!funcionario.getCpf().equals(dto.getCpf()) && funcionarioRepository.existsByCpf(dto.getCpf())) {
+        String cpfAnterior = funcionario.getCpf();
+        boolean cpfAlterado = funcionario.getCpfNumero() != cpfNumerico(dto.getCpf());
+        if (cpfAlterado && funcionarioRepository.existsByCpfNumero(cpfNumerico(dto.getCpf()))) {
             throw new DuplicateResourceException("CPF já está em uso: " + dto.getCpf());
         }
+        if (cpfAlterado) {
+            evictCpf(cpfAnterior);
+        }
 
-        // Atualiza os campos
-        modelMapper.map(dto, funcionario);
-        funcionario.setId(id); // Garante que o ID não muda
+        // Atualiza os campos (ID e datas de auditoria são preservados)
+        FuncionarioDTO anterior = convertToDTO(funcionario);
+        funcionarioMapper.atualizar(dto, funcionario);
 
-        Funcionario updated = funcionarioRepository.save(funcionario);
+        // flush para que a nova versão (ETag) já esteja na resposta e no cache
+        Funcionario updated = funcionarioRepository.saveAndFlush(funcionario);
         log.info("Funcionário atualizado ID: {}", id);
-        return convertToDTO(updated);
+        FuncionarioDTO atualizado = convertToDTO(updated);
+        auditoriaService.registrarAlteracao(anterior, atualizado);
+        return atualizado;
     }
 
     /**
-     * Deleta funcionário
+     * Deleta funcionário (com versaoEsperada, apenas se ainda estiver nessa versão).
+     * Uma única instrução: o CPF devolvido pelo DELETE substitui a consulta prévia (e é a chave a
+     * remover do cache por CPF), e os contatos saem pelo ON DELETE CASCADE.
      */
+    @CacheEvict(cacheNames = CacheConfig.FUNCIONARIOS_POR_ID, key = "#id")
     @Transactional
-    public void deletar(Long id) {
+    public void deletar(Long id, Long versaoEsperada) {
         log.debug("Deletando funcionário ID: {}", id);
 
-        if (!funcionarioRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Funcionário não encontrado com ID: " + id);
+        Optional<Long> cpfExcluido = versaoEsperada == null
+                ? funcionarioRepository.excluirPorId(id)
+                : funcionarioRepository.excluirPorIdEVersao(id, versaoEsperada);
+        if (cpfExcluido.isEmpty()) {
+            // Só no caminho de erro: distingue funcionário inexistente (404) de versão desatualizada (412)
+            Long versaoAtual = funcionarioRepository.findVersaoById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Funcionário não encontrado com ID: " + id));
+            throw new PreconditionFailedException("Funcionário " + id + " foi alterado (versão atual: "
+                    + versaoAtual + ", esperada: " + versaoEsperada + ")");
         }
 
-        funcionarioRepository.deleteById(id);
+        sincronizacaoService.registrarExclusao(id);
+        evictCpfs(List.of(cpfExcluido.get()));
+        auditoriaService.registrarExclusao(id);
         log.info("Funcionário deletado ID: {}", id);
     }
 
+    /**
+     * Deleta vários funcionários numa única transação: trava os existentes, exclui todos num único
+     * DELETE e grava as exclusões em lote. IDs inexistentes são apenas informados no resultado.
+     */
+    @Transactional
+    public ResultadoExclusaoDTO deletarEmLote(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            throw new BadRequestException("Informe ao menos um ID");
+        }
+        if (ids.size() > MAXIMO_EXCLUSOES_POR_LOTE) {
+            throw new BadRequestException("Informe no máximo " + MAXIMO_EXCLUSOES_POR_LOTE + " funcionários por exclusão");
+        }
+        log.debug("Deletando {} funcionários em lote", ids.size());
+
+        List<Object[]> travados = funcionarioRepository.findIdsParaExclusao(ids);
+        List<Long> excluidos = new ArrayList<>(travados.size());
+        List<Long> cpfsExcluidos = new ArrayList<>(travados.size());
+        for (Object[] linha : travados) {
+            excluidos.add((Long) linha[0]);
+            cpfsExcluidos.add((Long) linha[1]);
+        }
+        if (!excluidos.isEmpty()) {
+            funcionarioRepository.excluirPorIds(excluidos);
+            sincronizacaoService.registrarExclusoes(excluidos);
+            Cache porId = cacheManager.getCache(CacheConfig.FUNCIONARIOS_POR_ID);
+            if (porId != null) {
+                excluidos.forEach(porId::evict);
+            }
+            evictCpfs(cpfsExcluidos);
+            auditoriaService.registrarExclusoes(excluidos);
+        }
+
+        Set<Long> encontrados = new HashSet<>(excluidos);
+        List<Long> naoEncontrados = ids.stream().filter(id -> !encontrados.contains(id)).toList();
+        log.info("Funcionários deletados em lote: {} (não encontrados: {})", excluidos.size(), naoEncontrados.size());
+        return new ResultadoExclusaoDTO(excluidos, naoEncontrados);
+    }
+
+    /**
+     * Compara a versão esperada (If-Match) com a versão atual; nula quando o cliente não enviou If-Match
+     */
+    private void verificarVersao(Long versaoEsperada, Long versaoAtual, String descricao) {
+        if (versaoEsperada != null && !versaoEsperada.equals(versaoAtual)) {
+            throw new PreconditionFailedException(descricao + " foi alterado (versão atual: " + versaoAtual
+                    + ", esperada: " + versaoEsperada + ")");
+        }
+    }
+
+    // Métodos auxiliares de cache
+    /**
+     * Remove a entrada do cache por CPF (aplicado após o commit da transação)
+     */
+    private void evictCpf(String cpf) {
+        Cache cache = cacheManager.getCache(CacheConfig.FUNCIONARIOS_POR_CPF);
+        if (cache != null) {
+            cache.evict(Documentos.cpfNumerico(cpf));
+        }
+    }
+
+    /**
+     * Remove do cache por CPF as chaves numéricas informadas (aplicado após o commit da transação)
+     */
+    private void evictCpfs(Collection<Long> cpfNumeros) {
+        Cache cache = cacheManager.getCache(CacheConfig.FUNCIONARIOS_POR_CPF);
+        if (cache != null) {
+            cpfNumeros.forEach(cache::evict);
+        }
+    }
+
+    /**
+     * Chave numérica do CPF recebido; 400 se não tiver 11 dígitos
+     */
+    static long cpfNumerico(String cpf) {
+        long numero = Documentos.cpfNumerico(cpf);
+        if (numero < 0) {
+            throw new BadRequestException("CPF inválido: " + cpf);
+        }
+        return numero;
+    }
+
+    // Métodos auxiliares de paginação (também usados pelas leituras reativas)
+    /**
+     * Recebe até limite + 1 registros; o excedente indica que há próxima página
+     */
+    static PaginaDTO<FuncionarioDTO> montarPagina(List<FuncionarioDTO> funcionarios, int limite, String ordem) {
+        boolean temProximo = funcionarios.size() > limite;
+        List<FuncionarioDTO> itens = temProximo ? funcionarios.subList(0, limite) : funcionarios;
+        String proximoCursor = temProximo ? codificarCursor(ordem, itens.get(itens.size() - 1)) : null;
+        return new PaginaDTO<>(itens, itens.size(), proximoCursor);
+    }
+
+    static int normalizarTamanho(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        if (tamanho < 1) {
+            throw new BadRequestException("Tamanho da página deve ser maior que zero");
+        }
+        return Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+    }
+
+    /**
+     * Cursor = Base64 URL-safe de "ordem|id" ou "ordem|id|nome"
+     */
+    private static String codificarCursor(String ordem, FuncionarioDTO ultimo) {
+        String chave = ORDEM_NOME.equals(ordem)
+                ? ORDEM_NOME + "|" + ultimo.getId() + "|" + ultimo.getNome()
+                : ORDEM_ID + "|" + ultimo.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(chave.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Long decodificarCursorId(String cursor) {
+        return Long.valueOf(decodificarCursor(cursor, ORDEM_ID, 2)[0]);
+    }
+
+    /**
+     * Retorna [id, nome] do cursor de ordenação por nome
+     */
+    static String[] decodificarCursorNome(String cursor) {
+        return decodificarCursor(cursor, ORDEM_NOME, 3);
+    }
+
+    private static String[] decodificarCursor(String cursor, String ordemEsperada, int partesEsperadas) {
+        try {
+            String chave = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = chave.split("\\|", partesEsperadas);
+            if (partes.length != partesEsperadas || !ordemEsperada.equals(partes[0])) {
+                throw new BadRequestException("Cursor inválido para a ordenação: " + ordemEsperada);
+            }
+            Long.parseLong(partes[1]);
+            String[] valores = new String[partesEsperadas - 1];
+            System.arraycopy(partes, 1, valores, 0, valores.length);
+            return valores;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+
     // Métodos auxiliares de conversão
     private FuncionarioDTO convertToDTO(Funcionario entity) {
-        return modelMapper.map(entity, FuncionarioDTO.class);
+        return funcionarioMapper.toDTO(entity);
     }
 
     private Funcionario convertToEntity(FuncionarioDTO dto) {
-        return modelMapper.map(dto, Funcionario.class);
+        return funcionarioMapper.toEntity(dto);
     }
 }
@@ -0,0 +1,188 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.entity.AlteracaoAuditoria;
+import com.ccm.recadastramento.repository.AlteracaoAuditoriaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava a trilha de auditoria fora da requisição.
+ * As alterações entram numa fila limitada em memória e uma thread em segundo plano as persiste
+ * em lotes (um INSERT em lote JDBC por lote). Com a fila cheia, quem enfileira espera vaga até
+ * app.auditoria.espera-maxima, sem abrir outra conexão (a requisição ainda segura a sua, e com uma
+ * segunda por requisição o pool se esgotaria); vencido o prazo, o registro é descartado e contado em
+ * recadastramento.auditoria.descartados. Falhas de gravação são contadas em recadastramento.auditoria.falhas.
+ */
+@Component
+@Slf4j
+public class GravadorAuditoria implements SmartLifecycle {
+
+    /**
+     * Igual ao hibernate.jdbc.batch_size e ao allocationSize da sequência
+     */
+    private static final int TAMANHO_LOTE = 50;
+
+    private static final long ESPERA_POR_LOTE_MS = 200;
+
+    private final BlockingQueue<AlteracaoAuditoria> fila;
+    private final AlteracaoAuditoriaRepository alteracaoAuditoriaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long esperaMaximaMs;
+    private final Counter gravados;
+    private final Counter esperasPorVaga;
+    private final Counter descartados;
+    private final Counter falhas;
+    private final Timer tempoLote;
+
+    private volatile boolean rodando;
+    private Thread thread;
+
+    public GravadorAuditoria(AlteracaoAuditoriaRepository alteracaoAuditoriaRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.auditoria.capacidade-fila:10000}") int capacidadeFila,
+                             @Value("${app.auditoria.espera-maxima:1s}") Duration esperaMaxima) {
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.esperaMaximaMs = esperaMaxima.toMillis();
+        this.alteracaoAuditoriaRepository = alteracaoAuditoriaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("recadastramento.auditoria.fila", fila, BlockingQueue::size)
+                .description("Alterações aguardando gravação na trilha de auditoria")
+                .register(meterRegistry);
+        this.gravados = Counter.builder("recadastramento.auditoria.gravados")
+                .description("Alterações gravadas na trilha de auditoria")
+                .register(meterRegistry);
+        this.esperasPorVaga = Counter.builder("recadastramento.auditoria.fila.cheia")
+                .description("Alterações que encontraram a fila cheia e esperaram vaga")
+                .register(meterRegistry);
+        this.descartados = Counter.builder("recadastramento.auditoria.descartados")
+                .description("Alterações descartadas por falta de vaga na fila dentro da espera máxima")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("recadastramento.auditoria.falhas")
+                .description("Alterações que não puderam ser gravadas por erro no banco")
+                .register(meterRegistry);
+        this.tempoLote = Timer.builder("recadastramento.auditoria.lote")
+                .description("Tempo de gravação de cada lote de auditoria")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira as alterações; com a fila cheia, espera vaga até a espera máxima e descarta o que não coube.
+     * Nunca grava na thread atual: é chamado no afterCommit, com a conexão da requisição ainda presa.
+     */
+    public void enfileirar(List<AlteracaoAuditoria> alteracoes) {
+        int naoEnfileiradas = 0;
+        for (int i = 0; i < alteracoes.size(); i++) {
+            if (!enfileirar(alteracoes.get(i))) {
+                naoEnfileiradas = alteracoes.size() - i;
+                break;
+            }
+        }
+        if (naoEnfileiradas > 0) {
+            descartados.increment(naoEnfileiradas);
+            log.error("Fila de auditoria cheia por mais de {} ms, {} alterações descartadas",
+                    esperaMaximaMs, naoEnfileiradas);
+        }
+    }
+
+    private boolean enfileirar(AlteracaoAuditoria alteracao) {
+        if (fila.offer(alteracao)) {
+            return true;
+        }
+        esperasPorVaga.increment();
+        try {
+            return fila.offer(alteracao, esperaMaximaMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void executar() {
+        List<AlteracaoAuditoria> lote = new ArrayList<>(TAMANHO_LOTE);
+        while (rodando || !fila.isEmpty()) {
+            try {
+                AlteracaoAuditoria primeira = fila.poll(ESPERA_POR_LOTE_MS, TimeUnit.MILLISECONDS);
+                if (primeira == null) {
+                    continue;
+                }
+                lote.add(primeira);
+                fila.drainTo(lote, TAMANHO_LOTE - 1);
+                gravar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravar(List<AlteracaoAuditoria> lote) {
+        try {
+            tempoLote.record(() -> transactionTemplate.executeWithoutResult(
+                    status -> alteracaoAuditoriaRepository.saveAll(lote)));
+            gravados.increment(lote.size());
+        } catch (RuntimeException e) {
+            falhas.increment(lote.size());
+            log.error("Falha ao gravar {} alterações de auditoria: {}", lote.size(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        rodando = true;
+        thread = new Thread(this::executar, "gravador-auditoria");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Para de aceitar na fila e espera a thread esvaziá-la antes do fechamento do pool de conexões
+     */
+    @Override
+    public void stop() {
+        rodando = false;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!fila.isEmpty()) {
+            List<AlteracaoAuditoria> restantes = new ArrayList<>();
+            fila.drainTo(restantes);
+            gravar(restantes);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return rodando;
+    }
+
+    /**
+     * Para depois do servidor web, quando não chegam mais requisições
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
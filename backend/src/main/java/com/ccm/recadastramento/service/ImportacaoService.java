@@ -0,0 +1,258 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.LinhaImportacaoDTO;
+import com.ccm.recadastramento.dto.LinhaImportacaoDTO.Status;
+import com.ccm.recadastramento.dto.ResultadoImportacaoDTO;
+import com.ccm.recadastramento.entity.Funcionario;
+import com.ccm.recadastramento.exception.BadRequestException;
+import com.ccm.recadastramento.mapper.FuncionarioMapper;
+import com.ccm.recadastramento.repository.FuncionarioRepository;
+import com.ccm.recadastramento.validation.Documentos;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static java.util.Map.entry;
+
+/**
+ * Service para importação em lote de funcionários (JSON ou CSV).
+ * Valida todos os registros, verifica CPFs duplicados com consultas por conjunto
+ * e insere em lotes JDBC (IDs por sequência pooled, sem ida ao banco por INSERT).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "recadastramento.service", histogram = true)
+public class ImportacaoService {
+
+    public static final int TAMANHO_MAXIMO_IMPORTACAO = 50_000;
+
+    /**
+     * Deve acompanhar spring.jpa.properties.hibernate.jdbc.batch_size
+     */
+    private static final int TAMANHO_LOTE = 50;
+
+    /**
+     * Quantidade de CPFs por consulta de duplicidade (limite de parâmetros do driver)
+     */
+    private static final int CPFS_POR_CONSULTA = 1_000;
+
+    private static final Map<String, BiConsumer<FuncionarioDTO, String>> COLUNAS_CSV = Map.ofEntries(
+            entry("cpf", FuncionarioDTO::setCpf),
+            entry("nome", FuncionarioDTO::setNome),
+            entry("nome_social", FuncionarioDTO::setNomeSocial),
+            entry("data_nascimento", (dto, valor) -> dto.setDataNascimento(LocalDate.parse(valor))),
+            entry("raca_cor", FuncionarioDTO::setRacaCor),
+            entry("sexo", FuncionarioDTO::setSexo),
+            entry("nacionalidade", FuncionarioDTO::setNacionalidade),
+            entry("estado_nascimento", FuncionarioDTO::setEstadoNascimento),
+            entry("cidade_nascimento", FuncionarioDTO::setCidadeNascimento),
+            entry("telefone", FuncionarioDTO::setTelefone)
+    );
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final EntityManager entityManager;
+    private final FuncionarioMapper funcionarioMapper;
+    private final ValidacaoService validacaoService;
+    private final AuditoriaService auditoriaService;
+
+    /**
+     * Importa funcionários recebidos como array JSON
+     */
+    @Transactional
+    public ResultadoImportacaoDTO importar(List<FuncionarioDTO> dtos) {
+        log.debug("Importando {} funcionários (JSON)", dtos.size());
+        return processar(dtos, Map.of());
+    }
+
+    /**
+     * Importa funcionários de um CSV com cabeçalho (colunas como na exportação; colunas desconhecidas são ignoradas)
+     */
+    @Transactional
+    public ResultadoImportacaoDTO importarCsv(BufferedReader reader) throws IOException {
+        List<String> cabecalho = lerRegistroCsv(reader);
+        if (cabecalho == null) {
+            throw new BadRequestException("Arquivo CSV vazio");
+        }
+
+        List<FuncionarioDTO> dtos = new ArrayList<>();
+        Map<Integer, Map<String, String>> errosLeitura = new HashMap<>();
+        List<String> registro;
+        while ((registro = lerRegistroCsv(reader)) != null) {
+            if (registro.size() == 1 && registro.get(0).isEmpty()) {
+                continue;
+            }
+            verificarTamanho(dtos.size() + 1);
+            FuncionarioDTO dto = new FuncionarioDTO();
+            for (int i = 0; i < cabecalho.size() && i < registro.size(); i++) {
+                String coluna = cabecalho.get(i).trim().toLowerCase();
+                BiConsumer<FuncionarioDTO, String> setter = COLUNAS_CSV.get(coluna);
+                String valor = registro.get(i);
+                if (setter == null || valor.isEmpty()) {
+                    continue;
+                }
+                try {
+                    setter.accept(dto, valor);
+                } catch (DateTimeParseException e) {
+                    errosLeitura.computeIfAbsent(dtos.size(), k -> new LinkedHashMap<>())
+                            .put("dataNascimento", "Data inválida (use AAAA-MM-DD): " + valor);
+                }
+            }
+            dtos.add(dto);
+        }
+
+        log.debug("Importando {} funcionários (CSV)", dtos.size());
+        return processar(dtos, errosLeitura);
+    }
+
+    private ResultadoImportacaoDTO processar(List<FuncionarioDTO> dtos, Map<Integer, Map<String, String>> errosLeitura) {
+        verificarTamanho(dtos.size());
+
+        Map<Integer, Map<String, String>> errosValidacao = validacaoService.errosPorRegistro(dtos);
+        LinhaImportacaoDTO[] linhas = new LinhaImportacaoDTO[dtos.size()];
+        List<Integer> candidatos = new ArrayList<>();
+        Set<String> cpfsNaEntrada = new HashSet<>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            FuncionarioDTO dto = dtos.get(i);
+            Map<String, String> erros = new LinkedHashMap<>(errosLeitura.getOrDefault(i, Map.of()));
+            errosValidacao.getOrDefault(i, Map.of()).forEach(erros::putIfAbsent);
+
+            if (!erros.isEmpty()) {
+                linhas[i] = new LinhaImportacaoDTO(i + 1, dto != null ? dto.getCpf() : null, Status.INVALIDO, null, erros);
+            } else if (!cpfsNaEntrada.add(dto.getCpf())) {
+                linhas[i] = new LinhaImportacaoDTO(i + 1, dto.getCpf(), Status.DUPLICADO, null,
+                        Map.of("cpf", "CPF repetido na importação"));
+            } else {
+                candidatos.add(i);
+            }
+        }
+
+        Set<Long> cpfsExistentes = buscarCpfsExistentes(cpfsNaEntrada);
+
+        List<Funcionario> lote = new ArrayList<>(TAMANHO_LOTE);
+        List<Integer> posicoesLote = new ArrayList<>(TAMANHO_LOTE);
+        int importados = 0;
+        for (int i : candidatos) {
+            FuncionarioDTO dto = dtos.get(i);
+            if (cpfsExistentes.contains(Documentos.cpfNumerico(dto.getCpf()))) {
+                linhas[i] = new LinhaImportacaoDTO(i + 1, dto.getCpf(), Status.DUPLICADO, null,
+                        Map.of("cpf", "Já existe um funcionário cadastrado com o CPF: " + dto.getCpf()));
+                continue;
+            }
+            lote.add(funcionarioMapper.toEntity(dto));
+            posicoesLote.add(i);
+            if (lote.size() == TAMANHO_LOTE) {
+                importados += gravarLote(lote, posicoesLote, dtos, linhas);
+            }
+        }
+        importados += gravarLote(lote, posicoesLote, dtos, linhas);
+
+        log.info("Importação concluída: {} de {} funcionários importados", importados, dtos.size());
+        return new ResultadoImportacaoDTO(dtos.size(), importados, dtos.size() - importados, List.of(linhas));
+    }
+
+    /**
+     * Persiste o lote (um INSERT em lote JDBC) e limpa o contexto de persistência
+     */
+    private int gravarLote(List<Funcionario> lote, List<Integer> posicoes, List<FuncionarioDTO> dtos,
+                           LinhaImportacaoDTO[] linhas) {
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        funcionarioRepository.saveAll(lote);
+        entityManager.flush();
+        List<Long> ids = new ArrayList<>(lote.size());
+        for (int j = 0; j < lote.size(); j++) {
+            int i = posicoes.get(j);
+            linhas[i] = new LinhaImportacaoDTO(i + 1, dtos.get(i).getCpf(), Status.IMPORTADO, lote.get(j).getId(), null);
+            ids.add(lote.get(j).getId());
+        }
+        entityManager.clear();
+        auditoriaService.registrarCriacoes(ids);
+
+        int gravados = lote.size();
+        lote.clear();
+        posicoes.clear();
+        return gravados;
+    }
+
+    private Set<Long> buscarCpfsExistentes(Set<String> cpfs) {
+        Set<Long> existentes = new HashSet<>();
+        List<Long> pendentes = new ArrayList<>(cpfs.size());
+        for (String cpf : cpfs) {
+            pendentes.add(Documentos.cpfNumerico(cpf));
+        }
+        for (int inicio = 0; inicio < pendentes.size(); inicio += CPFS_POR_CONSULTA) {
+            List<Long> fatia = pendentes.subList(inicio, Math.min(inicio + CPFS_POR_CONSULTA, pendentes.size()));
+            existentes.addAll(funcionarioRepository.findCpfsExistentes(fatia));
+        }
+        return existentes;
+    }
+
+    private void verificarTamanho(int quantidade) {
+        if (quantidade > TAMANHO_MAXIMO_IMPORTACAO) {
+            throw new BadRequestException("Importação limitada a " + TAMANHO_MAXIMO_IMPORTACAO + " registros");
+        }
+    }
+
+    /**
+     * Lê um registro CSV (RFC 4180: campos entre aspas podem conter vírgulas, aspas duplicadas e quebras de linha).
+     * Retorna null no fim do arquivo.
+     */
+    private List<String> lerRegistroCsv(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        while (c != -1) {
+            if (entreAspas) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int proximo = reader.read();
+                    if (proximo == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        reader.reset();
+                    }
+                } else {
+                    campo.append((char) c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                campo.append((char) c);
+            }
+            c = reader.read();
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.PaginaDTO;
+import com.ccm.recadastramento.exception.BadRequestException;
+import com.ccm.recadastramento.exception.ResourceNotFoundException;
+import com.ccm.recadastramento.repository.LeituraReativaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Leituras reativas de funcionários e contatos (R2DBC), com os mesmos contratos das rotas JPA:
+ * mesmos DTOs, mesmo cursor de paginação e os mesmos erros (404, 400).
+ * Nada aqui bloqueia: a thread da requisição é liberada enquanto o banco responde.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.reativo", name = "habilitado", havingValue = "true")
+public class LeituraReativaService {
+
+    /**
+     * Linhas por consulta no streaming; cada lote devolve a conexão ao pool antes de ser enviado
+     */
+    private static final int LOTE_STREAMING = 100;
+
+    private final LeituraReativaRepository leituraReativaRepository;
+
+    /**
+     * Lista funcionários paginados por cursor (keyset), ordenados por ID ou por nome
+     */
+    public Mono<PaginaDTO<FuncionarioDTO>> listarPagina(String cursor, Integer tamanho, String ordenarPor) {
+        return Mono.defer(() -> {
+            int limite = FuncionarioService.normalizarTamanho(tamanho);
+            String ordem = ordenarPor == null ? FuncionarioService.ORDEM_ID : ordenarPor;
+
+            Flux<FuncionarioDTO> funcionarios = switch (ordem) {
+                case FuncionarioService.ORDEM_ID -> leituraReativaRepository.findPaginaPorIdApos(
+                        cursor == null ? 0L : FuncionarioService.decodificarCursorId(cursor), limite + 1);
+                case FuncionarioService.ORDEM_NOME -> {
+                    if (cursor == null) {
+                        yield leituraReativaRepository.findPrimeiraPaginaPorNome(limite + 1);
+                    }
+                    String[] chave = FuncionarioService.decodificarCursorNome(cursor);
+                    yield leituraReativaRepository.findPaginaPorNomeApos(chave[1], Long.parseLong(chave[0]), limite + 1);
+                }
+                default -> throw new BadRequestException("Ordenação inválida: " + ordenarPor + " (use id ou nome)");
+            };
+
+            return funcionarios.collectList()
+                    .map(lista -> FuncionarioService.montarPagina(lista, limite, ordem));
+        });
+    }
+
+    /**
+     * Todos os funcionários em ordem de ID, consultados em lotes conforme o cliente consome:
+     * o próximo lote só é lido quando há demanda, então cliente lento não segura conexão nem memória.
+     * O prefetch de 1 no concatMapIterable limita a leitura a um lote à frente do que está sendo
+     * enviado; com o padrão (256) o expand leria até 256 lotes adiantados.
+     */
+    public Flux<FuncionarioDTO> transmitirTodos() {
+        return lote(0L)
+                .expand(lote -> lote.size() < LOTE_STREAMING
+                        ? Mono.empty()
+                        : lote(lote.get(lote.size() - 1).getId()))
+                .concatMapIterable(lote -> lote, 1);
+    }
+
+    public Mono<FuncionarioDTO> buscarPorId(Long id) {
+        return leituraReativaRepository.findFuncionarioById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Funcionário não encontrado com ID: " + id)));
+    }
+
+    /**
+     * Busca funcionário por CPF (000.000.000-00 ou só os dígitos), pela chave numérica
+     */
+    public Mono<FuncionarioDTO> buscarPorCpf(String cpf) {
+        return Mono.fromSupplier(() -> FuncionarioService.cpfNumerico(cpf))
+                .flatMap(leituraReativaRepository::findFuncionarioByCpfNumero)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Funcionário não encontrado com CPF: " + cpf)));
+    }
+
+    public Flux<ContatoDTO> listarContatos(Long funcionarioId) {
+        return leituraReativaRepository.findContatosByFuncionarioId(funcionarioId);
+    }
+
+    public Mono<ContatoDTO> buscarContato(Long id) {
+        return leituraReativaRepository.findContatoById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Contato não encontrado com ID: " + id)));
+    }
+
+    private Mono<List<FuncionarioDTO>> lote(long aposId) {
+        return leituraReativaRepository.findPaginaPorIdApos(aposId, LOTE_STREAMING).collectList();
+    }
+}
@@ -0,0 +1,193 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.AlteracoesDTO;
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.dto.ExclusaoDTO;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Entidade;
+import com.ccm.recadastramento.entity.Exclusao;
+import com.ccm.recadastramento.exception.BadRequestException;
+import com.ccm.recadastramento.repository.ContatoRepository;
+import com.ccm.recadastramento.repository.ExclusaoRepository;
+import com.ccm.recadastramento.repository.FuncionarioRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Service da sincronização incremental (tablets de campo que trabalham offline).
+ * O cliente guarda o cursor recebido e pede só o que mudou depois dele: funcionários e contatos
+ * criados ou alterados, na ordem (atualizadoEm, id), e as exclusões, na ordem (excluidoEm, id).
+ * Cada uma das três listas tem a sua posição no cursor e é paginada por keyset.
+ * <p>
+ * As datas são gravadas no flush, antes do commit: uma transação mais lenta pode tornar visível
+ * uma linha com data anterior à de outra já entregue. Por isso só são entregues linhas com data
+ * anterior a (agora - margem); a margem deve cobrir a transação de escrita mais longa e o atraso
+ * das réplicas de leitura.
+ */
+@Service
+@Slf4j
+@Timed(value = "recadastramento.service", histogram = true)
+public class SincronizacaoService {
+
+    public static final int TAMANHO_PAGINA_PADRAO = 200;
+    public static final int TAMANHO_PAGINA_MAXIMO = 1000;
+
+    private static final String PREFIXO_CURSOR = "alteracoes";
+
+    /**
+     * Posição inicial de cada lista (primeira sincronização: tudo)
+     */
+    private static final Posicao INICIO = new Posicao(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final ContatoRepository contatoRepository;
+    private final ExclusaoRepository exclusaoRepository;
+    private final Duration margem;
+
+    public SincronizacaoService(FuncionarioRepository funcionarioRepository,
+                                ContatoRepository contatoRepository,
+                                ExclusaoRepository exclusaoRepository,
+                                @Value("${app.sincronizacao.margem:1m}") Duration margem) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.contatoRepository = contatoRepository;
+        this.exclusaoRepository = exclusaoRepository;
+        this.margem = margem;
+    }
+
+    /**
+     * Alterações depois do cursor (sem cursor: a carga completa, em páginas).
+     * Cada lista traz até tamanho itens; temMais indica que alguma foi cortada.
+     */
+    @Transactional(readOnly = true)
+    public AlteracoesDTO alteracoes(String cursor, Integer tamanho) {
+        log.debug("Sincronização incremental - cursor: {}, tamanho: {}", cursor, tamanho);
+
+        int limite = normalizarTamanho(tamanho);
+        Posicao[] posicoes = cursor == null ? new Posicao[]{INICIO, INICIO, INICIO} : decodificarCursor(cursor);
+        LocalDateTime ate = LocalDateTime.now().minus(margem);
+        PageRequest pagina = PageRequest.ofSize(limite + 1);
+
+        List<Object[]> funcionariosAlterados = funcionarioRepository.findAlteradosApos(
+                posicoes[0].data(), posicoes[0].id(), ate, pagina);
+        List<Object[]> contatosAlterados = contatoRepository.findAlteradosApos(
+                posicoes[1].data(), posicoes[1].id(), ate, pagina);
+        List<Exclusao> exclusoes = exclusaoRepository.findExclusoesApos(
+                posicoes[2].data(), posicoes[2].id(), ate, pagina);
+
+        boolean temMais = funcionariosAlterados.size() > limite || contatosAlterados.size() > limite
+                || exclusoes.size() > limite;
+
+        List<FuncionarioDTO> funcionarios = new ArrayList<>(Math.min(funcionariosAlterados.size(), limite));
+        for (Object[] linha : primeiros(funcionariosAlterados, limite)) {
+            FuncionarioDTO funcionario = (FuncionarioDTO) linha[0];
+            funcionarios.add(funcionario);
+            posicoes[0] = new Posicao((LocalDateTime) linha[1], funcionario.getId());
+        }
+
+        List<ContatoDTO> contatos = new ArrayList<>(Math.min(contatosAlterados.size(), limite));
+        for (Object[] linha : primeiros(contatosAlterados, limite)) {
+            ContatoDTO contato = (ContatoDTO) linha[0];
+            contatos.add(contato);
+            posicoes[1] = new Posicao((LocalDateTime) linha[1], contato.getId());
+        }
+
+        List<ExclusaoDTO> excluidos = new ArrayList<>(Math.min(exclusoes.size(), limite));
+        for (Exclusao exclusao : primeiros(exclusoes, limite)) {
+            excluidos.add(new ExclusaoDTO(exclusao.getEntidade(), exclusao.getEntidadeId(),
+                    exclusao.getFuncionarioId(), exclusao.getExcluidoEm()));
+            posicoes[2] = new Posicao(exclusao.getExcluidoEm(), exclusao.getId());
+        }
+
+        return new AlteracoesDTO(funcionarios, contatos, excluidos, codificarCursor(posicoes), temMais);
+    }
+
+    /**
+     * Registra a exclusão de um funcionário (os contatos dele são excluídos junto) na transação atual
+     */
+    public void registrarExclusao(Long funcionarioId) {
+        exclusaoRepository.save(new Exclusao(null, Entidade.FUNCIONARIO, funcionarioId, funcionarioId,
+                LocalDateTime.now()));
+    }
+
+    /**
+     * Exclusões em lote de funcionários (INSERT em lote JDBC)
+     */
+    public void registrarExclusoes(List<Long> funcionarioIds) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<Exclusao> exclusoes = new ArrayList<>(funcionarioIds.size());
+        for (Long id : funcionarioIds) {
+            exclusoes.add(new Exclusao(null, Entidade.FUNCIONARIO, id, id, agora));
+        }
+        exclusaoRepository.saveAll(exclusoes);
+    }
+
+    /**
+     * Registra a exclusão de um contato na transação atual
+     */
+    public void registrarExclusaoContato(Long contatoId, Long funcionarioId) {
+        exclusaoRepository.save(new Exclusao(null, Entidade.CONTATO, contatoId, funcionarioId,
+                LocalDateTime.now()));
+    }
+
+    // Métodos auxiliares
+    private static int normalizarTamanho(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        if (tamanho < 1) {
+            throw new BadRequestException("Tamanho da página deve ser maior que zero");
+        }
+        return Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+    }
+
+    private static <T> List<T> primeiros(List<T> linhas, int limite) {
+        return linhas.size() > limite ? linhas.subList(0, limite) : linhas;
+    }
+
+    /**
+     * Cursor = Base64 URL-safe de "alteracoes|data|id|data|id|data|id" (funcionários, contatos, exclusões)
+     */
+    private static String codificarCursor(Posicao[] posicoes) {
+        StringBuilder chave = new StringBuilder(PREFIXO_CURSOR);
+        for (Posicao posicao : posicoes) {
+            chave.append('|').append(posicao.data()).append('|').append(posicao.id());
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(chave.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Posicao[] decodificarCursor(String cursor) {
+        try {
+            String chave = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = chave.split("\\|");
+            if (partes.length != 7 || !PREFIXO_CURSOR.equals(partes[0])) {
+                throw new BadRequestException("Cursor inválido para a sincronização");
+            }
+            Posicao[] posicoes = new Posicao[3];
+            for (int i = 0; i < posicoes.length; i++) {
+                posicoes[i] = new Posicao(LocalDateTime.parse(partes[1 + 2 * i]), Long.valueOf(partes[2 + 2 * i]));
+            }
+            return posicoes;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+
+    /**
+     * Última linha entregue de uma das listas
+     */
+    private record Posicao(LocalDateTime data, Long id) {
+    }
+}
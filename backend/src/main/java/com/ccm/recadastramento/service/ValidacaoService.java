@@ -0,0 +1,101 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.LinhaImportacaoDTO;
+import com.ccm.recadastramento.dto.LinhaImportacaoDTO.Status;
+import com.ccm.recadastramento.dto.ResultadoValidacaoDTO;
+import com.ccm.recadastramento.exception.BadRequestException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Service para validação em lote de funcionários, sem acesso ao banco.
+ * Lotes grandes são validados em paralelo (o Validator é thread-safe); a importação usa o mesmo caminho.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "recadastramento.service", histogram = true)
+public class ValidacaoService {
+
+    public static final int TAMANHO_MAXIMO_VALIDACAO = ImportacaoService.TAMANHO_MAXIMO_IMPORTACAO;
+
+    /**
+     * Abaixo disso a divisão entre threads custa mais do que a validação
+     */
+    private static final int MINIMO_PARALELO = 1_000;
+
+    private final Validator validator;
+
+    /**
+     * Valida os registros sem gravá-los: formato, dígitos verificadores do CPF e CPFs repetidos na entrada
+     */
+    public ResultadoValidacaoDTO validar(List<FuncionarioDTO> dtos) {
+        if (dtos.size() > TAMANHO_MAXIMO_VALIDACAO) {
+            throw new BadRequestException("Validação limitada a " + TAMANHO_MAXIMO_VALIDACAO + " registros");
+        }
+        log.debug("Validando {} funcionários", dtos.size());
+
+        Map<Integer, Map<String, String>> erros = errosPorRegistro(dtos);
+        List<LinhaImportacaoDTO> rejeitados = new ArrayList<>();
+        Set<String> cpfsNaEntrada = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            Map<String, String> errosRegistro = erros.get(i);
+            String cpf = dtos.get(i) != null ? dtos.get(i).getCpf() : null;
+            if (errosRegistro != null) {
+                rejeitados.add(new LinhaImportacaoDTO(i + 1, cpf, Status.INVALIDO, null, errosRegistro));
+            } else if (!cpfsNaEntrada.add(cpf)) {
+                rejeitados.add(new LinhaImportacaoDTO(i + 1, cpf, Status.DUPLICADO, null,
+                        Map.of("cpf", "CPF repetido na entrada")));
+            }
+        }
+
+        return new ResultadoValidacaoDTO(dtos.size(), dtos.size() - rejeitados.size(), rejeitados.size(), rejeitados);
+    }
+
+    /**
+     * Erros por campo de cada registro inválido, pela posição na lista (registros válidos ficam de fora)
+     */
+    public Map<Integer, Map<String, String>> errosPorRegistro(List<FuncionarioDTO> dtos) {
+        Map<Integer, Map<String, String>> erros = new ConcurrentHashMap<>();
+        IntStream posicoes = IntStream.range(0, dtos.size());
+        if (dtos.size() >= MINIMO_PARALELO) {
+            posicoes = posicoes.parallel();
+        }
+        posicoes.forEach(i -> {
+            Map<String, String> errosRegistro = validar(dtos.get(i));
+            if (!errosRegistro.isEmpty()) {
+                erros.put(i, errosRegistro);
+            }
+        });
+        return erros;
+    }
+
+    private Map<String, String> validar(FuncionarioDTO dto) {
+        if (dto == null) {
+            return Map.of("registro", "Registro vazio");
+        }
+        Set<ConstraintViolation<FuncionarioDTO>> violacoes = validator.validate(dto);
+        if (violacoes.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> erros = new LinkedHashMap<>();
+        for (ConstraintViolation<FuncionarioDTO> violacao : violacoes) {
+            erros.putIfAbsent(violacao.getPropertyPath().toString(), violacao.getMessage());
+        }
+        return erros;
+    }
+}
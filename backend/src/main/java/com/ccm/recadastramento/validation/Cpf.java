@@ -0,0 +1,26 @@
+package com.ccm.recadastramento.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * CPF no formato 000.000.000-00 com dígitos verificadores válidos (null é aceito; use @NotBlank)
+ */
+@Documented
+@Constraint(validatedBy = CpfValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cpf {
+
+    String message() default "CPF inválido";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
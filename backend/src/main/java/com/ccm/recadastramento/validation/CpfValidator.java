@@ -0,0 +1,12 @@
+package com.ccm.recadastramento.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CpfValidator implements ConstraintValidator<Cpf, String> {
+
+    @Override
+    public boolean isValid(String valor, ConstraintValidatorContext context) {
+        return valor == null || Documentos.cpfValido(valor);
+    }
+}
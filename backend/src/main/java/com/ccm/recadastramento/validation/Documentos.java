@@ -0,0 +1,105 @@
+package com.ccm.recadastramento.validation;
+
+/**
+ * Verificação de CPF e telefone caractere a caractere, sem regex e sem alocação,
+ * usada pelas anotações {@link Cpf} e {@link Telefone}
+ */
+public final class Documentos {
+
+    private static final int TAMANHO_CPF = 14;
+    private static final int TAMANHO_TELEFONE = 15;
+    private static final int DIGITOS_CPF = 11;
+
+    private Documentos() {
+    }
+
+    /**
+     * CPF no formato 000.000.000-00, com dígitos verificadores corretos e sem todos os dígitos iguais
+     */
+    public static boolean cpfValido(CharSequence cpf) {
+        if (cpf == null || cpf.length() != TAMANHO_CPF
+                || cpf.charAt(3) != '.' || cpf.charAt(7) != '.' || cpf.charAt(11) != '-') {
+            return false;
+        }
+
+        int soma1 = 0;
+        int soma2 = 0;
+        int digitos = 0;
+        boolean todosIguais = true;
+        for (int i = 0; i < TAMANHO_CPF; i++) {
+            if (i == 3 || i == 7 || i == 11) {
+                continue;
+            }
+            int digito = cpf.charAt(i) - '0';
+            if (digito < 0 || digito > 9) {
+                return false;
+            }
+            if (digito != cpf.charAt(0) - '0') {
+                todosIguais = false;
+            }
+            if (digitos < 9) {
+                soma1 += digito * (10 - digitos);
+                soma2 += digito * (11 - digitos);
+            } else if (digitos == 9) {
+                if (digito != digitoVerificador(soma1)) {
+                    return false;
+                }
+                soma2 += digito * 2;
+            } else if (digito != digitoVerificador(soma2)) {
+                return false;
+            }
+            digitos++;
+        }
+        return !todosIguais;
+    }
+
+    /**
+     * Chave numérica do CPF (os 11 dígitos como número), aceitando 000.000.000-00 ou só os dígitos;
+     * -1 quando não há exatamente 11 dígitos. Não confere os dígitos verificadores.
+     */
+    public static long cpfNumerico(CharSequence cpf) {
+        if (cpf == null) {
+            return -1;
+        }
+        long numero = 0;
+        int digitos = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitos > DIGITOS_CPF) {
+                    return -1;
+                }
+                numero = numero * 10 + (c - '0');
+            } else if (c != '.' && c != '-') {
+                return -1;
+            }
+        }
+        return digitos == DIGITOS_CPF ? numero : -1;
+    }
+
+    /**
+     * Telefone no formato (00) 00000-0000
+     */
+    public static boolean telefoneValido(CharSequence telefone) {
+        if (telefone == null || telefone.length() != TAMANHO_TELEFONE
+                || telefone.charAt(0) != '(' || telefone.charAt(3) != ')'
+                || telefone.charAt(4) != ' ' || telefone.charAt(10) != '-') {
+            return false;
+        }
+        for (int i = 1; i < TAMANHO_TELEFONE; i++) {
+            if (i == 3 || i == 4 || i == 10) {
+                continue;
+            }
+            char c = telefone.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digitoVerificador(int soma) {
+        int resto = soma * 10 % 11;
+        return resto == 10 ? 0 : resto;
+    }
+}
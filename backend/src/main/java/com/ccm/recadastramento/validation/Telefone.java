@@ -0,0 +1,26 @@
+package com.ccm.recadastramento.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Telefone no formato (00) 00000-0000 (null é aceito; use @NotBlank)
+ */
+@Documented
+@Constraint(validatedBy = TelefoneValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Telefone {
+
+    String message() default "Telefone deve estar no formato (00) 00000-0000";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
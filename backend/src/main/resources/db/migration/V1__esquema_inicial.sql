@@ -0,0 +1,34 @@
+-- Esquema inicial, equivalente ao gerado anteriormente pelo ddl-auto=update.
+-- Usa IF NOT EXISTS para que bancos já existentes sejam apenas registrados no histórico.
+
+CREATE TABLE IF NOT EXISTS funcionarios (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    cpf               VARCHAR(14)  NOT NULL,
+    nome              VARCHAR(200) NOT NULL,
+    nome_social       VARCHAR(200),
+    data_nascimento   DATE         NOT NULL,
+    raca_cor          VARCHAR(20)  NOT NULL,
+    sexo              VARCHAR(10)  NOT NULL,
+    nacionalidade     VARCHAR(50)  NOT NULL,
+    estado_nascimento VARCHAR(2)   NOT NULL,
+    cidade_nascimento VARCHAR(100) NOT NULL,
+    telefone          VARCHAR(15)  NOT NULL,
+    criado_em         TIMESTAMP(6) NOT NULL,
+    atualizado_em     TIMESTAMP(6),
+    CONSTRAINT uk_funcionarios_cpf UNIQUE (cpf)
+);
+
+CREATE TABLE IF NOT EXISTS contatos (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    funcionario_id BIGINT       NOT NULL,
+    tipo           VARCHAR(20)  NOT NULL,
+    valor          VARCHAR(100) NOT NULL,
+    descricao      VARCHAR(200),
+    principal      BOOLEAN      NOT NULL,
+    criado_em      TIMESTAMP(6) NOT NULL,
+    atualizado_em  TIMESTAMP(6),
+    CONSTRAINT fk_contatos_funcionario FOREIGN KEY (funcionario_id) REFERENCES funcionarios (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_funcionarios_nome_id ON funcionarios (nome, id);
+CREATE INDEX IF NOT EXISTS idx_contatos_funcionario_id ON contatos (funcionario_id, id);
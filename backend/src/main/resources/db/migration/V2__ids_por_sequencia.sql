@@ -0,0 +1,12 @@
+-- Troca IDENTITY por sequências com incremento 50 (otimizador pooled do Hibernate),
+-- permitindo que os INSERTs sejam agrupados em lotes JDBC.
+
+CREATE SEQUENCE IF NOT EXISTS funcionarios_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contatos_seq START WITH 1 INCREMENT BY 50;
+
+-- Posiciona as sequências após os IDs já existentes
+SELECT setval('funcionarios_seq', (SELECT MAX(id) FROM funcionarios)) WHERE EXISTS (SELECT 1 FROM funcionarios);
+SELECT setval('contatos_seq', (SELECT MAX(id) FROM contatos)) WHERE EXISTS (SELECT 1 FROM contatos);
+
+ALTER TABLE funcionarios ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE contatos ALTER COLUMN id DROP IDENTITY IF EXISTS;
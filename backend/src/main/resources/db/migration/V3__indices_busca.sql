@@ -0,0 +1,20 @@
+-- Índices da busca de funcionários (GET /api/funcionarios/busca).
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- unaccent() é apenas STABLE; o wrapper IMMUTABLE permite usá-lo em índices
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+-- Nome por trecho ou prefixo, sem acentos e sem diferenciar maiúsculas (LIKE '%termo%' e 'termo%')
+CREATE INDEX IF NOT EXISTS idx_funcionarios_nome_trgm
+    ON funcionarios USING gin (f_unaccent(lower(nome)) gin_trgm_ops);
+
+-- Filtros por igualdade, com id para manter a ordenação da paginação keyset
+CREATE INDEX IF NOT EXISTS idx_funcionarios_estado_cidade
+    ON funcionarios (estado_nascimento, cidade_nascimento, id);
+
+CREATE INDEX IF NOT EXISTS idx_funcionarios_data_nascimento
+    ON funcionarios (data_nascimento);
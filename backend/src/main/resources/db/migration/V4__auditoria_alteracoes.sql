@@ -0,0 +1,31 @@
+-- Trilha de auditoria das alterações de funcionários e contatos (uma linha por campo alterado).
+-- Sem chave estrangeira: o histórico permanece depois que o funcionário é excluído.
+
+CREATE SEQUENCE IF NOT EXISTS auditoria_alteracoes_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS auditoria_alteracoes (
+    id             BIGINT       PRIMARY KEY,
+    entidade       VARCHAR(20)  NOT NULL,
+    entidade_id    BIGINT       NOT NULL,
+    funcionario_id BIGINT       NOT NULL,
+    operacao       VARCHAR(20)  NOT NULL,
+    campo          VARCHAR(50),
+    valor_anterior VARCHAR(500),
+    valor_novo     VARCHAR(500),
+    usuario        VARCHAR(100) NOT NULL,
+    data_hora      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_auditoria_funcionario_id ON auditoria_alteracoes (funcionario_id, id);
+
+-- Somente inserção: UPDATE e DELETE são recusados pelo banco
+CREATE OR REPLACE FUNCTION auditoria_somente_insercao() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'auditoria_alteracoes aceita apenas INSERT';
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_auditoria_somente_insercao ON auditoria_alteracoes;
+CREATE TRIGGER trg_auditoria_somente_insercao
+    BEFORE UPDATE OR DELETE ON auditoria_alteracoes
+    FOR EACH ROW EXECUTE FUNCTION auditoria_somente_insercao();
@@ -0,0 +1,5 @@
+-- Coluna de versão para concorrência otimista (@Version) e ETags.
+-- Registros existentes começam na versão 0.
+
+ALTER TABLE funcionarios ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE contatos ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- No máximo um contato principal por tipo para cada funcionário.
+-- Antes do índice, mantém como principal apenas o contato mais recente de cada grupo.
+
+UPDATE contatos c
+SET principal = FALSE,
+    versao = c.versao + 1,
+    atualizado_em = CURRENT_TIMESTAMP
+WHERE c.principal
+  AND EXISTS (SELECT 1
+              FROM contatos o
+              WHERE o.funcionario_id = c.funcionario_id
+                AND o.tipo = c.tipo
+                AND o.principal
+                AND o.id > c.id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_contatos_principal_por_tipo
+    ON contatos (funcionario_id, tipo)
+    WHERE principal;
@@ -0,0 +1,31 @@
+-- Chave numérica do CPF (só os 11 dígitos), usada nas buscas e na unicidade.
+-- A coluna cpf continua com a forma de exibição 000.000.000-00.
+
+ALTER TABLE funcionarios ADD COLUMN IF NOT EXISTS cpf_numero BIGINT;
+
+UPDATE funcionarios
+SET cpf_numero = CAST(regexp_replace(cpf, '[^0-9]', '', 'g') AS BIGINT)
+WHERE cpf_numero IS NULL;
+
+ALTER TABLE funcionarios ALTER COLUMN cpf_numero SET NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_funcionarios_cpf_numero ON funcionarios (cpf_numero);
+
+-- A unicidade passa para a chave numérica; remove a restrição única sobre o texto
+-- (uk_funcionarios_cpf ou o nome gerado pelo ddl-auto em bancos anteriores ao Flyway).
+DO $$
+DECLARE
+    restricao TEXT;
+BEGIN
+    FOR restricao IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'funcionarios'::regclass
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname = 'cpf'
+    LOOP
+        EXECUTE format('ALTER TABLE funcionarios DROP CONSTRAINT %I', restricao);
+    END LOOP;
+END $$;
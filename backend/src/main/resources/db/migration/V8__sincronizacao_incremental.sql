@@ -0,0 +1,21 @@
+-- Sincronização incremental: alterações desde um cursor (atualizado_em, id) e registro das exclusões.
+-- Linhas antigas sem atualizado_em passam a usar a data de criação, para entrarem na primeira carga.
+
+UPDATE funcionarios SET atualizado_em = criado_em WHERE atualizado_em IS NULL;
+UPDATE contatos SET atualizado_em = criado_em WHERE atualizado_em IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_funcionarios_atualizado_em_id ON funcionarios (atualizado_em, id);
+CREATE INDEX IF NOT EXISTS idx_contatos_atualizado_em_id ON contatos (atualizado_em, id);
+
+-- Exclusões (tombstones): sem chave estrangeira, o registro sobrevive à linha excluída
+CREATE SEQUENCE IF NOT EXISTS exclusoes_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS exclusoes (
+    id             BIGINT       PRIMARY KEY,
+    entidade       VARCHAR(20)  NOT NULL,
+    entidade_id    BIGINT       NOT NULL,
+    funcionario_id BIGINT       NOT NULL,
+    excluido_em    TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_exclusoes_excluido_em_id ON exclusoes (excluido_em, id);
@@ -0,0 +1,21 @@
+-- Contatos excluídos pelo próprio banco junto com o funcionário (ON DELETE CASCADE),
+-- para que a exclusão de um funcionário seja uma única instrução.
+-- Remove a chave estrangeira atual (fk_contatos_funcionario ou o nome gerado pelo ddl-auto
+-- em bancos anteriores ao Flyway) e a recria com a ação em cascata.
+DO $$
+DECLARE
+    restricao TEXT;
+BEGIN
+    FOR restricao IN
+        SELECT c.conname
+        FROM pg_constraint c
+        WHERE c.conrelid = 'contatos'::regclass
+          AND c.confrelid = 'funcionarios'::regclass
+          AND c.contype = 'f'
+    LOOP
+        EXECUTE format('ALTER TABLE contatos DROP CONSTRAINT %I', restricao);
+    END LOOP;
+END $$;
+
+ALTER TABLE contatos ADD CONSTRAINT fk_contatos_funcionario
+    FOREIGN KEY (funcionario_id) REFERENCES funcionarios (id) ON DELETE CASCADE;
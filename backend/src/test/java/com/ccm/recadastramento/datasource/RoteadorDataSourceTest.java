@@ -0,0 +1,220 @@
+package com.ccm.recadastramento.datasource;
+
+import com.ccm.recadastramento.config.DataSourceConfig;
+import com.ccm.recadastramento.datasource.ReplicasProperties.Estrategia;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roteamento entre primário e réplicas com bancos H2 em memória; cada banco se identifica pelo nome
+ */
+class RoteadorDataSourceTest {
+
+    private static final AtomicInteger SEQUENCIA = new AtomicInteger();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final String prefixo = "roteador" + SEQUENCIA.incrementAndGet() + "_";
+    private final List<Connection> bancos = new ArrayList<>();
+    private RoteadorDataSource roteador;
+    private DataSource dataSource;
+
+    @AfterEach
+    void fechar() throws SQLException {
+        if (roteador != null) {
+            roteador.close();
+        }
+        for (Connection banco : bancos) {
+            banco.close();
+        }
+    }
+
+    @Test
+    void transacaoSomenteLeituraVaiParaReplica() throws SQLException {
+        iniciar(Estrategia.ROUND_ROBIN, replica("r0"), replica("r1"));
+
+        Set<String> destinos = new HashSet<>();
+        destinos.add(executar(true));
+        destinos.add(executar(true));
+
+        assertThat(destinos).containsExactlyInAnyOrder(banco("r0"), banco("r1"));
+        assertThat(leituras("replica-0") + leituras("replica-1")).isEqualTo(2);
+        assertThat(leituras("primario")).isZero();
+    }
+
+    @Test
+    void escritaVaiParaPrimario() throws SQLException {
+        iniciar(Estrategia.ROUND_ROBIN, replica("r0"), replica("r1"));
+
+        assertThat(executar(false)).isEqualTo(banco("primario"));
+        assertThat(executar(false)).isEqualTo(banco("primario"));
+        assertThat(leituras("replica-0") + leituras("replica-1") + leituras("primario")).isZero();
+    }
+
+    @Test
+    void replicaInacessivelCaiNoPrimario() {
+        // Porta fechada: a conexão é recusada na hora
+        iniciar(Estrategia.ROUND_ROBIN, "jdbc:h2:tcp://127.0.0.1:1/" + prefixo + "inexistente");
+
+        assertThat(executar(true)).isEqualTo(banco("primario"));
+        assertThat(leituras("primario")).isEqualTo(1);
+        esperar(() -> disponivel("replica-0") == 0);
+    }
+
+    @Test
+    void replicaAtrasadaSaiDoRoteamentoEVolta() throws SQLException {
+        iniciar(Estrategia.ROUND_ROBIN, replica("r0"), replica("r1"));
+
+        definirAtraso("r0", 30);
+        esperar(() -> disponivel("replica-0") == 0);
+        for (int i = 0; i < 4; i++) {
+            assertThat(executar(true)).isEqualTo(banco("r1"));
+        }
+
+        definirAtraso("r0", 0);
+        esperar(() -> disponivel("replica-0") == 1);
+        Set<String> destinos = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            destinos.add(executar(true));
+        }
+        assertThat(destinos).containsExactlyInAnyOrder(banco("r0"), banco("r1"));
+    }
+
+    @Test
+    void menosConexoesEscolheAReplicaMenosOcupada() throws SQLException {
+        iniciar(Estrategia.MENOS_CONEXOES, replica("r0"), replica("r1"));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection primeira = roteador.getConnection();
+             Connection segunda = roteador.getConnection()) {
+            // Empate escolhe a primeira réplica; com ela ocupada, a segunda
+            assertThat(nome(primeira)).isEqualTo(banco("r0"));
+            assertThat(nome(segunda)).isEqualTo(banco("r1"));
+
+            primeira.close();
+            try (Connection terceira = roteador.getConnection()) {
+                assertThat(nome(terceira)).isEqualTo(banco("r0"));
+            }
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    // Métodos auxiliares
+    private void iniciar(Estrategia estrategia, String... urlsReplicas) {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(url("primario"));
+        dataSourceProperties.setUsername("sa");
+        dataSourceProperties.setPassword("");
+
+        ReplicasProperties replicasProperties = new ReplicasProperties();
+        replicasProperties.setHabilitado(true);
+        replicasProperties.setEstrategia(estrategia);
+        replicasProperties.setAtrasoMaximo(Duration.ofSeconds(10));
+        replicasProperties.setIntervaloVerificacao(Duration.ofMillis(50));
+        replicasProperties.setConsultaAtraso("SELECT segundos FROM atraso");
+        for (String url : urlsReplicas) {
+            ReplicasProperties.Replica replica = new ReplicasProperties.Replica();
+            replica.setUrl(url);
+            replicasProperties.getLista().add(replica);
+        }
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "4")
+                .withProperty("spring.datasource.hikari.minimum-idle", "0")
+                .withProperty("spring.datasource.hikari.connection-timeout", "250");
+
+        DataSourceConfig config = new DataSourceConfig();
+        roteador = config.roteadorDataSource(dataSourceProperties, replicasProperties, environment, meterRegistry);
+        dataSource = config.dataSource(roteador);
+    }
+
+    /**
+     * Cria a réplica em memória com a tabela lida pela consulta de atraso
+     */
+    private String replica(String nome) throws SQLException {
+        Connection banco = DriverManager.getConnection(url(nome), "sa", "");
+        bancos.add(banco);
+        try (Statement statement = banco.createStatement()) {
+            statement.execute("CREATE TABLE atraso (segundos DOUBLE PRECISION)");
+            statement.execute("INSERT INTO atraso VALUES (0)");
+        }
+        return url(nome);
+    }
+
+    private void definirAtraso(String nome, double segundos) throws SQLException {
+        try (Connection banco = DriverManager.getConnection(url(nome), "sa", "");
+             Statement statement = banco.createStatement()) {
+            statement.execute("UPDATE atraso SET segundos = " + segundos);
+        }
+    }
+
+    /**
+     * Roda uma consulta numa transação e devolve o nome do banco que a atendeu
+     */
+    private String executar(boolean somenteLeitura) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(somenteLeitura);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static String nome(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             var rs = statement.executeQuery("SELECT DATABASE()")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private String url(String nome) {
+        return "jdbc:h2:mem:" + prefixo + nome + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private String banco(String nome) {
+        return (prefixo + nome).toUpperCase();
+    }
+
+    private double leituras(String destino) {
+        return meterRegistry.get("recadastramento.datasource.leituras").tag("destino", destino).counter().count();
+    }
+
+    private double disponivel(String replica) {
+        return meterRegistry.get("recadastramento.datasource.replica.disponivel").tag("replica", replica)
+                .gauge().value();
+    }
+
+    private static void esperar(BooleanSupplier condicao) {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condicao.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condição não atingida em 5s").isLessThan(limite);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ccm.recadastramento.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Só as requisições síncronas entram na métrica; as assíncronas ficariam com contagem parcial
+ */
+class MetricasSqlFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MetricasSqlFilter filter = new MetricasSqlFilter(registry, 20);
+    private final ContadorSql inspector = new ContadorSql();
+
+    @Test
+    void registraRequisicaoSincrona() throws Exception {
+        MockHttpServletRequest request = requisicao();
+
+        filter.doFilter(request, new MockHttpServletResponse(), executando(3, false));
+
+        assertThat(registry.get(MetricasSqlFilter.METRICA).tag("uri", "/api/funcionarios/{id}")
+                .summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void ignoraRequisicaoAssincrona() throws Exception {
+        MockHttpServletRequest request = requisicao();
+
+        filter.doFilter(request, new MockHttpServletResponse(), executando(1, true));
+
+        assertThat(registry.find(MetricasSqlFilter.METRICA).summary()).isNull();
+        // A thread não fica com contagem pendurada
+        inspector.inspect("select 1");
+        assertThat(ContadorSql.finalizar()).isZero();
+    }
+
+    private static MockHttpServletRequest requisicao() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/funcionarios/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/funcionarios/{id}");
+        return request;
+    }
+
+    private FilterChain executando(int comandos, boolean assincrona) {
+        return (request, response) -> {
+            for (int i = 0; i < comandos; i++) {
+                inspector.inspect("select 1");
+            }
+            if (assincrona) {
+                ((MockHttpServletRequest) request).setAsyncStarted(true);
+            }
+        };
+    }
+}
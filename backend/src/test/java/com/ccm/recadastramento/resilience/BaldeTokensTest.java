@@ -0,0 +1,107 @@
+package com.ccm.recadastramento.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BaldeTokensTest {
+
+    private static final long T0 = 1_000_000_000_000L;
+    private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void rajadaIgualACapacidade() {
+        BaldeTokens balde = new BaldeTokens(5, 1, T0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(balde.consumir(T0)).as("token %d", i + 1).isZero();
+        }
+        assertThat(balde.consumir(T0)).isPositive();
+    }
+
+    @Test
+    void repoeNaTaxaConfigurada() {
+        BaldeTokens balde = new BaldeTokens(5, 2, T0);
+        esvaziar(balde, T0, 5);
+
+        // 2 por segundo: um token a cada 500 ms
+        assertThat(balde.consumir(T0 + SEGUNDO / 2 - 1)).isPositive();
+        assertThat(balde.consumir(T0 + SEGUNDO / 2)).isZero();
+        assertThat(balde.consumir(T0 + SEGUNDO / 2)).isPositive();
+
+        // Parado tempo suficiente, volta cheio, mas não acumula além da capacidade
+        long depois = T0 + 60 * SEGUNDO;
+        esvaziar(balde, depois, 5);
+        assertThat(balde.consumir(depois)).isPositive();
+    }
+
+    @Test
+    void esperaAteOProximoToken() {
+        BaldeTokens balde = new BaldeTokens(3, 2, T0);
+        esvaziar(balde, T0, 3);
+
+        assertThat(balde.consumir(T0)).isEqualTo(SEGUNDO / 2);
+        assertThat(balde.consumir(T0 + TimeUnit.MILLISECONDS.toNanos(200)))
+                .isEqualTo(TimeUnit.MILLISECONDS.toNanos(300));
+        // Recusa não consome: a espera continua a mesma
+        assertThat(balde.consumir(T0)).isEqualTo(SEGUNDO / 2);
+    }
+
+    @Test
+    void taxaFracionaria() {
+        BaldeTokens balde = new BaldeTokens(1, 0.5, T0);
+
+        assertThat(balde.consumir(T0)).isZero();
+        assertThat(balde.consumir(T0)).isEqualTo(2 * SEGUNDO);
+    }
+
+    @Test
+    void concorrenteNaoConcedeAlemDaCapacidade() throws Exception {
+        int capacidade = 1_000;
+        int threads = 8;
+        int tentativasPorThread = 500;
+        // Reposição desprezível durante o teste: só a rajada pode ser concedida
+        BaldeTokens balde = new BaldeTokens(capacidade, 0.001, T0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> resultados = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                resultados.add(executor.submit(() -> {
+                    largada.await();
+                    int concedidos = 0;
+                    for (int i = 0; i < tentativasPorThread; i++) {
+                        if (balde.consumir(T0) == 0) {
+                            concedidos++;
+                        }
+                    }
+                    return concedidos;
+                }));
+            }
+            largada.countDown();
+
+            int total = 0;
+            for (Future<Integer> resultado : resultados) {
+                total += resultado.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(capacidade);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void esvaziar(BaldeTokens balde, long agora, int tokens) {
+        for (int i = 0; i < tokens; i++) {
+            assertThat(balde.consumir(agora)).isZero();
+        }
+    }
+}
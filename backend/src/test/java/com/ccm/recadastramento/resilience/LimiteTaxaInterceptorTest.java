@@ -0,0 +1,112 @@
+package com.ccm.recadastramento.resilience;
+
+import com.ccm.recadastramento.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LimiteTaxaInterceptorTest {
+
+    private static final String CABECALHO = "X-Api-Key";
+
+    @Test
+    void chavePermitidaTemBaldeProprio() {
+        LimiteTaxaInterceptor interceptor = interceptor(2, Set.of("parceiro"));
+
+        esgotar(interceptor, requisicao("10.0.0.1", null), 2);
+        // Mesmo IP, mas identificado pela chave permitida
+        assertThat(permite(interceptor, requisicao("10.0.0.1", "parceiro"))).isTrue();
+    }
+
+    @Test
+    void chaveForaDaListaUsaOIp() {
+        LimiteTaxaInterceptor interceptor = interceptor(2, Set.of("parceiro"));
+
+        // Um valor novo por requisição não rende balde novo
+        assertThat(permite(interceptor, requisicao("10.0.0.1", "aleatoria-1"))).isTrue();
+        assertThat(permite(interceptor, requisicao("10.0.0.1", "aleatoria-2"))).isTrue();
+        assertThat(permite(interceptor, requisicao("10.0.0.1", "aleatoria-3"))).isFalse();
+        assertThat(permite(interceptor, requisicao("10.0.0.2", "aleatoria-4"))).isTrue();
+    }
+
+    @Test
+    void semChavesPermitidasIgnoraOHeader() {
+        LimiteTaxaInterceptor interceptor = interceptor(1, Set.of());
+
+        assertThat(permite(interceptor, requisicao("10.0.0.1", "qualquer"))).isTrue();
+        assertThat(permite(interceptor, requisicao("10.0.0.1", "outra"))).isFalse();
+    }
+
+    @Test
+    void retryAfterArredondaParaCima() {
+        // 0,5 por segundo: o próximo token sai em até 2 s
+        LimiteTaxaInterceptor interceptor = interceptor(1, 0.5, Set.of());
+        esgotar(interceptor, requisicao("10.0.0.1", null), 1);
+
+        assertThatThrownBy(() -> interceptor.preHandle(requisicao("10.0.0.1", null),
+                new MockHttpServletResponse(), new Object()))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSegundos()).isEqualTo(2));
+    }
+
+    @Test
+    void rotaNaoConfiguradaNaoELimitada() {
+        LimiteTaxaInterceptor interceptor = interceptor(1, Set.of());
+        MockHttpServletRequest leitura = requisicao("10.0.0.1", null);
+        leitura.setMethod("GET");
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(permite(interceptor, leitura)).isTrue();
+        }
+    }
+
+    // Métodos auxiliares
+    private static LimiteTaxaInterceptor interceptor(int capacidade, Set<String> chaves) {
+        return interceptor(capacidade, 0.001, chaves);
+    }
+
+    private static LimiteTaxaInterceptor interceptor(int capacidade, double porSegundo, Set<String> chaves) {
+        LimiteTaxaProperties.Rota rota = new LimiteTaxaProperties.Rota();
+        rota.setMetodos(List.of("POST"));
+        rota.setCaminho("/api/funcionarios/**");
+        rota.setCapacidade(capacidade);
+        rota.setPorSegundo(porSegundo);
+
+        LimiteTaxaProperties properties = new LimiteTaxaProperties();
+        properties.setCabecalhoCliente(CABECALHO);
+        properties.setChavesPermitidas(chaves);
+        properties.setRotas(List.of(rota));
+        return new LimiteTaxaInterceptor(properties, new SimpleMeterRegistry());
+    }
+
+    private static MockHttpServletRequest requisicao(String ip, String chave) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/funcionarios");
+        request.setRemoteAddr(ip);
+        if (chave != null) {
+            request.addHeader(CABECALHO, chave);
+        }
+        return request;
+    }
+
+    private static boolean permite(LimiteTaxaInterceptor interceptor, MockHttpServletRequest request) {
+        try {
+            return interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        } catch (TooManyRequestsException e) {
+            return false;
+        }
+    }
+
+    private static void esgotar(LimiteTaxaInterceptor interceptor, MockHttpServletRequest request, int vezes) {
+        for (int i = 0; i < vezes; i++) {
+            assertThat(permite(interceptor, request)).isTrue();
+        }
+        assertThat(permite(interceptor, request)).isFalse();
+    }
+}
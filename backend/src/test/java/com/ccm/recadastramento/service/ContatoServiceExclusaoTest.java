@@ -0,0 +1,71 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.exception.PreconditionFailedException;
+import com.ccm.recadastramento.exception.ResourceNotFoundException;
+import com.ccm.recadastramento.mapper.ContatoMapper;
+import com.ccm.recadastramento.repository.ContatoRepository;
+import com.ccm.recadastramento.repository.FuncionarioRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A exclusão de contato decide 404/412 pelo resultado do próprio DELETE e só registra o que foi excluído
+ */
+class ContatoServiceExclusaoTest {
+
+    private final ContatoRepository repository = mock(ContatoRepository.class);
+    private final AuditoriaService auditoriaService = mock(AuditoriaService.class);
+    private final SincronizacaoService sincronizacaoService = mock(SincronizacaoService.class);
+    private final ContatoService service = new ContatoService(repository, mock(FuncionarioRepository.class),
+            mock(ContatoMapper.class), auditoriaService, sincronizacaoService);
+
+    @Test
+    void exclusaoRegistraComOFuncionarioDevolvidoPeloDelete() {
+        when(repository.excluirPorId(10L)).thenReturn(Optional.of(1L));
+
+        service.deletar(10L, null);
+
+        verify(sincronizacaoService).registrarExclusaoContato(10L, 1L);
+        verify(auditoriaService).registrarExclusaoContato(10L, 1L);
+        verify(repository, never()).findDTOById(anyLong());
+    }
+
+    @Test
+    void exclusaoComVersaoNoWhere() {
+        when(repository.excluirPorIdEVersao(10L, 3L)).thenReturn(Optional.of(1L));
+
+        service.deletar(10L, 3L);
+
+        verify(repository, never()).excluirPorId(anyLong());
+        verify(sincronizacaoService).registrarExclusaoContato(10L, 1L);
+        verify(auditoriaService).registrarExclusaoContato(10L, 1L);
+    }
+
+    @Test
+    void versaoDesatualizadaNaoRegistraNada() {
+        when(repository.excluirPorIdEVersao(10L, 2L)).thenReturn(Optional.empty());
+        when(repository.findVersaoById(10L)).thenReturn(Optional.of(3L));
+
+        assertThatThrownBy(() -> service.deletar(10L, 2L)).isInstanceOf(PreconditionFailedException.class);
+        verify(sincronizacaoService, never()).registrarExclusaoContato(anyLong(), anyLong());
+        verify(auditoriaService, never()).registrarExclusaoContato(anyLong(), anyLong());
+    }
+
+    @Test
+    void contatoInexistenteNaoRegistraNada() {
+        when(repository.excluirPorIdEVersao(10L, 2L)).thenReturn(Optional.empty());
+        when(repository.findVersaoById(10L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.deletar(10L, 2L)).isInstanceOf(ResourceNotFoundException.class);
+        verify(sincronizacaoService, never()).registrarExclusaoContato(anyLong(), anyLong());
+        verify(auditoriaService, never()).registrarExclusaoContato(anyLong(), anyLong());
+    }
+}
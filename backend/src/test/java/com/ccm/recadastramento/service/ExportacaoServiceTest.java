@@ -0,0 +1,70 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.ContatoDTO;
+import com.ccm.recadastramento.dto.FichaFuncionarioDTO;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.repository.ContatoRepository;
+import com.ccm.recadastramento.repository.FuncionarioRepository;
+import com.ccm.recadastramento.service.ExportacaoService.FormatoExportacao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExportacaoServiceTest {
+
+    private final FuncionarioRepository funcionarioRepository = mock(FuncionarioRepository.class);
+    private final ContatoRepository contatoRepository = mock(ContatoRepository.class);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ExportacaoService service = new ExportacaoService(funcionarioRepository, contatoRepository,
+            objectMapper);
+
+    @BeforeEach
+    void dados() {
+        when(funcionarioRepository.streamTodosOrdenadosPorId()).thenReturn(Stream.of(funcionario(1L), funcionario(2L)));
+        when(contatoRepository.streamTodosOrdenadosPorFuncionario()).thenReturn(Stream.of(
+                new ContatoDTO(10L, 1L, "EMAIL", "a@b.com", null, true, 0L)));
+    }
+
+    @Test
+    void ndjsonUmaFichaPorLinha() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportar(FormatoExportacao.NDJSON, out);
+
+        String[] linhas = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(linhas).hasSize(2);
+        FichaFuncionarioDTO primeira = objectMapper.readValue(linhas[0], FichaFuncionarioDTO.class);
+        assertThat(primeira.getContatos()).extracting(ContatoDTO::getId).containsExactly(10L);
+        assertThat(objectMapper.readValue(linhas[1], FichaFuncionarioDTO.class).getContatos()).isEmpty();
+    }
+
+    @Test
+    void cborSequenciaSemSeparadores() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportar(FormatoExportacao.CBOR, out);
+
+        ObjectMapper cbor = objectMapper.copyWith(new CBORFactory());
+        List<FichaFuncionarioDTO> fichas = cbor.readerFor(FichaFuncionarioDTO.class)
+                .<FichaFuncionarioDTO>readValues(out.toByteArray())
+                .readAll();
+        assertThat(fichas).extracting(f -> f.getFuncionario().getId()).containsExactly(1L, 2L);
+    }
+
+    private static FuncionarioDTO funcionario(Long id) {
+        FuncionarioDTO dto = new FuncionarioDTO();
+        dto.setId(id);
+        dto.setNome("Funcionário " + id);
+        return dto;
+    }
+}
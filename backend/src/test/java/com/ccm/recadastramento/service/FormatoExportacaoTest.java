@@ -0,0 +1,50 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.exception.BadRequestException;
+import com.ccm.recadastramento.service.ExportacaoService.FormatoExportacao;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FormatoExportacaoTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "application/x-ndjson                            | NDJSON",
+            "text/csv                                        | CSV",
+            "text/csv;charset=UTF-8                          | CSV",
+            "text/*                                          | CSV",
+            "application/cbor-seq                            | CBOR",
+            "application/cbor                                | CBOR",
+            "application/x-jackson-smile                     | SMILE",
+            // Sem formato compatível, ou só curinga: NDJSON
+            "application/json                                | NDJSON",
+            "*/*                                             | NDJSON",
+            // Mesmo peso: vale a ordem do cliente
+            "text/csv, application/cbor-seq                  | CSV",
+            "application/cbor-seq, text/csv                  | CBOR",
+            // Mais específico antes do curinga
+            "*/*, application/x-jackson-smile                | SMILE",
+            // Qualidade menor perde
+            "text/csv;q=0.5, application/x-jackson-smile     | SMILE",
+    })
+    void negociaPeloAccept(String accept, FormatoExportacao esperado) {
+        assertThat(FormatoExportacao.deAccept(accept)).isEqualTo(esperado);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void semAcceptUsaNdjson(String accept) {
+        assertThat(FormatoExportacao.deAccept(accept)).isEqualTo(FormatoExportacao.NDJSON);
+    }
+
+    @Test
+    void formatoPorExtensao() {
+        assertThat(FormatoExportacao.de("CSV")).isEqualTo(FormatoExportacao.CSV);
+        assertThatThrownBy(() -> FormatoExportacao.de("xml")).isInstanceOf(BadRequestException.class);
+    }
+}
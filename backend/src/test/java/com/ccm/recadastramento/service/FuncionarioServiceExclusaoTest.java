@@ -0,0 +1,109 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.config.CacheConfig;
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.ResultadoExclusaoDTO;
+import com.ccm.recadastramento.exception.PreconditionFailedException;
+import com.ccm.recadastramento.exception.ResourceNotFoundException;
+import com.ccm.recadastramento.mapper.FuncionarioMapper;
+import com.ccm.recadastramento.repository.FuncionarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * As exclusões tiram do cache por CPF exatamente as chaves devolvidas pelo banco, sem percorrer o cache
+ */
+class FuncionarioServiceExclusaoTest {
+
+    private static final long CPF_A = 52998224725L;
+    private static final long CPF_B = 11144477735L;
+    private static final long CPF_OUTRO = 12345678909L;
+
+    private final FuncionarioRepository repository = mock(FuncionarioRepository.class);
+    private final AuditoriaService auditoriaService = mock(AuditoriaService.class);
+    private final SincronizacaoService sincronizacaoService = mock(SincronizacaoService.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
+            CacheConfig.FUNCIONARIOS_POR_ID, CacheConfig.FUNCIONARIOS_POR_CPF);
+    private final FuncionarioService service = new FuncionarioService(repository, mock(FuncionarioMapper.class),
+            cacheManager, auditoriaService, sincronizacaoService);
+
+    private Cache porCpf;
+
+    @BeforeEach
+    void cache() {
+        porCpf = cacheManager.getCache(CacheConfig.FUNCIONARIOS_POR_CPF);
+        porCpf.put(CPF_A, new FuncionarioDTO());
+        porCpf.put(CPF_B, new FuncionarioDTO());
+        porCpf.put(CPF_OUTRO, new FuncionarioDTO());
+    }
+
+    @Test
+    void exclusaoRemoveOCpfDevolvidoPeloDelete() {
+        when(repository.excluirPorId(1L)).thenReturn(Optional.of(CPF_A));
+
+        service.deletar(1L, null);
+
+        assertThat(porCpf.get(CPF_A)).isNull();
+        assertThat(porCpf.get(CPF_B)).isNotNull();
+        assertThat(porCpf.get(CPF_OUTRO)).isNotNull();
+        verify(sincronizacaoService).registrarExclusao(1L);
+        verify(auditoriaService).registrarExclusao(1L);
+    }
+
+    @Test
+    void exclusaoComVersao() {
+        when(repository.excluirPorIdEVersao(1L, 3L)).thenReturn(Optional.of(CPF_A));
+
+        service.deletar(1L, 3L);
+
+        assertThat(porCpf.get(CPF_A)).isNull();
+    }
+
+    @Test
+    void versaoDesatualizadaNaoMexeNoCache() {
+        when(repository.excluirPorIdEVersao(1L, 2L)).thenReturn(Optional.empty());
+        when(repository.findVersaoById(1L)).thenReturn(Optional.of(3L));
+
+        assertThatThrownBy(() -> service.deletar(1L, 2L)).isInstanceOf(PreconditionFailedException.class);
+        assertThat(porCpf.get(CPF_A)).isNotNull();
+    }
+
+    @Test
+    void funcionarioInexistente() {
+        when(repository.excluirPorId(1L)).thenReturn(Optional.empty());
+        when(repository.findVersaoById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.deletar(1L, null)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void exclusaoEmLoteRemoveOsCpfsTravados() {
+        Cache porId = cacheManager.getCache(CacheConfig.FUNCIONARIOS_POR_ID);
+        porId.put(1L, new FuncionarioDTO());
+        porId.put(2L, new FuncionarioDTO());
+        when(repository.findIdsParaExclusao(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(new Object[]{1L, CPF_A}, new Object[]{2L, CPF_B}));
+
+        ResultadoExclusaoDTO resultado = service.deletarEmLote(List.of(1L, 2L, 3L));
+
+        assertThat(resultado.getExcluidos()).containsExactly(1L, 2L);
+        assertThat(resultado.getNaoEncontrados()).containsExactly(3L);
+        assertThat(porCpf.get(CPF_A)).isNull();
+        assertThat(porCpf.get(CPF_B)).isNull();
+        assertThat(porCpf.get(CPF_OUTRO)).isNotNull();
+        assertThat(porId.get(1L)).isNull();
+        assertThat(porId.get(2L)).isNull();
+        verify(repository).excluirPorIds(List.of(1L, 2L));
+    }
+}
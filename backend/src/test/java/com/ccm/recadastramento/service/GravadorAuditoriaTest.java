@@ -0,0 +1,58 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.entity.AlteracaoAuditoria;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Entidade;
+import com.ccm.recadastramento.entity.AlteracaoAuditoria.Operacao;
+import com.ccm.recadastramento.repository.AlteracaoAuditoriaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class GravadorAuditoriaTest {
+
+    private final AlteracaoAuditoriaRepository repository = mock(AlteracaoAuditoriaRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void filaCheiaEsperaEDescartaSemGravarNaThreadAtual() {
+        // Sem start(): nada consome a fila
+        GravadorAuditoria gravador = new GravadorAuditoria(repository, transactionManager, meterRegistry,
+                2, Duration.ofMillis(50));
+
+        long inicio = System.nanoTime();
+        gravador.enfileirar(List.of(alteracao(1L), alteracao(2L), alteracao(3L), alteracao(4L)));
+        long decorridoMs = Duration.ofNanos(System.nanoTime() - inicio).toMillis();
+
+        assertThat(decorridoMs).isGreaterThanOrEqualTo(50);
+        assertThat(meterRegistry.get("recadastramento.auditoria.fila").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("recadastramento.auditoria.fila.cheia").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("recadastramento.auditoria.descartados").counter().count()).isEqualTo(2);
+        verifyNoInteractions(repository, transactionManager);
+    }
+
+    @Test
+    void filaComVagaNaoEspera() {
+        GravadorAuditoria gravador = new GravadorAuditoria(repository, transactionManager, meterRegistry,
+                10, Duration.ofSeconds(5));
+
+        gravador.enfileirar(List.of(alteracao(1L), alteracao(2L)));
+
+        assertThat(meterRegistry.get("recadastramento.auditoria.fila").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("recadastramento.auditoria.fila.cheia").counter().count()).isZero();
+        assertThat(meterRegistry.get("recadastramento.auditoria.descartados").counter().count()).isZero();
+    }
+
+    private static AlteracaoAuditoria alteracao(Long funcionarioId) {
+        return new AlteracaoAuditoria(null, Entidade.FUNCIONARIO, funcionarioId, funcionarioId,
+                Operacao.CRIACAO, null, null, null, "sistema", LocalDateTime.now());
+    }
+}
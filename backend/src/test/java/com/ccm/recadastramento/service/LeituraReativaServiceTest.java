@@ -0,0 +1,84 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.repository.LeituraReativaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * O streaming só consulta o próximo lote (100 linhas) quando o cliente pede além do que já foi lido
+ */
+class LeituraReativaServiceTest {
+
+    private static final long TOTAL = 1_050;
+
+    private final LeituraReativaRepository repository = mock(LeituraReativaRepository.class);
+    private final LeituraReativaService service = new LeituraReativaService(repository);
+    private final AtomicInteger consultas = new AtomicInteger();
+
+    @BeforeEach
+    void banco() {
+        // Cada assinatura é uma consulta; a consulta em si só roda quando assinada, como no DatabaseClient
+        when(repository.findPaginaPorIdApos(anyLong(), anyInt())).thenAnswer(invocacao -> {
+            long apos = invocacao.getArgument(0);
+            int limite = invocacao.getArgument(1);
+            return Flux.defer(() -> {
+                consultas.incrementAndGet();
+                return Flux.fromStream(LongStream.rangeClosed(apos + 1, Math.min(apos + limite, TOTAL))
+                        .mapToObj(LeituraReativaServiceTest::funcionario));
+            });
+        });
+    }
+
+    @Test
+    void consultaLotesConformeADemanda() {
+        // Um lote à frente do que está sendo enviado: o do início já vem com o seguinte
+        StepVerifier.create(service.transmitirTodos(), 0)
+                .then(() -> assertThat(consultas).hasValue(2))
+                .thenRequest(1)
+                .expectNextMatches(f -> f.getId() == 1)
+                .then(() -> assertThat(consultas).hasValue(2))
+                .thenRequest(99)
+                .expectNextCount(99)
+                // Fim do primeiro lote: passa ao segundo, já lido, e pede o terceiro
+                .then(() -> assertThat(consultas).hasValue(3))
+                .thenRequest(1)
+                .expectNextMatches(f -> f.getId() == 101)
+                .then(() -> assertThat(consultas).hasValue(3))
+                .thenRequest(250)
+                .expectNextCount(250)
+                .then(() -> assertThat(consultas).hasValue(5))
+                .thenCancel()
+                .verify();
+        assertThat(consultas).hasValue(5);
+    }
+
+    @Test
+    void transmiteTodosEmOrdem() {
+        StepVerifier.create(service.transmitirTodos().map(FuncionarioDTO::getId).reduce(0L, (anterior, id) -> {
+                    assertThat(id).isEqualTo(anterior + 1);
+                    return id;
+                }))
+                .expectNext(TOTAL)
+                .verifyComplete();
+        // 10 lotes cheios e um com 50
+        assertThat(consultas).hasValue(11);
+    }
+
+    private static FuncionarioDTO funcionario(long id) {
+        FuncionarioDTO dto = new FuncionarioDTO();
+        dto.setId(id);
+        return dto;
+    }
+}
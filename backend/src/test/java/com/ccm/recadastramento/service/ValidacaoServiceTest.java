@@ -0,0 +1,133 @@
+package com.ccm.recadastramento.service;
+
+import com.ccm.recadastramento.dto.FuncionarioDTO;
+import com.ccm.recadastramento.dto.LinhaImportacaoDTO;
+import com.ccm.recadastramento.dto.LinhaImportacaoDTO.Status;
+import com.ccm.recadastramento.dto.ResultadoValidacaoDTO;
+import com.ccm.recadastramento.exception.BadRequestException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ValidacaoServiceTest {
+
+    private static final ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+    private final ValidacaoService service = new ValidacaoService(VALIDATOR_FACTORY.getValidator());
+
+    @AfterAll
+    static void fechar() {
+        VALIDATOR_FACTORY.close();
+    }
+
+    /**
+     * Abaixo, exatamente no e acima do MINIMO_PARALELO (1000): o resultado não depende do caminho
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {10, 999, 1_000, 2_500})
+    void mesmoResultadoSequencialEParalelo(int tamanho) {
+        List<FuncionarioDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < tamanho; i++) {
+            dtos.add(funcionario(cpf(100_000_000 + i)));
+        }
+        int ultimo = tamanho - 1;
+        dtos.get(1).setCpf("529.982.247-26");
+        dtos.get(2).setTelefone("11 98765-4321");
+        dtos.set(3, null);
+        dtos.get(4).setCpf(dtos.get(0).getCpf());
+        dtos.get(ultimo).setCpf(dtos.get(5).getCpf());
+
+        ResultadoValidacaoDTO resultado = service.validar(dtos);
+
+        assertThat(resultado.getTotal()).isEqualTo(tamanho);
+        assertThat(resultado.getInvalidos()).isEqualTo(5);
+        assertThat(resultado.getValidos()).isEqualTo(tamanho - 5);
+        assertThat(resultado.getLinhas())
+                .extracting(LinhaImportacaoDTO::getPosicao, LinhaImportacaoDTO::getStatus)
+                .containsExactly(
+                        tuple(2, Status.INVALIDO),
+                        tuple(3, Status.INVALIDO),
+                        tuple(4, Status.INVALIDO),
+                        tuple(5, Status.DUPLICADO),
+                        tuple(ultimo + 1, Status.DUPLICADO));
+        assertThat(resultado.getLinhas().get(0).getErros()).containsOnlyKeys("cpf");
+        assertThat(resultado.getLinhas().get(1).getErros()).containsOnlyKeys("telefone");
+        assertThat(resultado.getLinhas().get(2).getErros()).containsOnlyKeys("registro");
+    }
+
+    @Test
+    void duplicadoNaEntradaConsideraSoOsValidos() {
+        FuncionarioDTO invalido = funcionario("529.982.247-25");
+        invalido.setNome(null);
+
+        ResultadoValidacaoDTO resultado = service.validar(List.of(
+                invalido,
+                funcionario("529.982.247-25"),
+                funcionario("529.982.247-25"),
+                funcionario("111.444.777-35")));
+
+        // O inválido não ocupa o CPF: o primeiro válido passa e só o seguinte é duplicado
+        assertThat(resultado.getLinhas())
+                .extracting(LinhaImportacaoDTO::getPosicao, LinhaImportacaoDTO::getStatus)
+                .containsExactly(tuple(1, Status.INVALIDO), tuple(3, Status.DUPLICADO));
+        assertThat(resultado.getLinhas().get(1).getErros()).containsEntry("cpf", "CPF repetido na entrada");
+        assertThat(resultado.getValidos()).isEqualTo(2);
+    }
+
+    @Test
+    void loteAcimaDoLimite() {
+        List<FuncionarioDTO> dtos = Collections.nCopies(ValidacaoService.TAMANHO_MAXIMO_VALIDACAO + 1, null);
+
+        assertThatThrownBy(() -> service.validar(dtos)).isInstanceOf(BadRequestException.class);
+    }
+
+    // Métodos auxiliares
+    private static FuncionarioDTO funcionario(String cpf) {
+        FuncionarioDTO dto = new FuncionarioDTO();
+        dto.setCpf(cpf);
+        dto.setNome("Maria da Silva");
+        dto.setDataNascimento(LocalDate.of(1990, 1, 1));
+        dto.setRacaCor("parda");
+        dto.setSexo("feminino");
+        dto.setNacionalidade("brasileira");
+        dto.setEstadoNascimento("SP");
+        dto.setCidadeNascimento("São Paulo");
+        dto.setTelefone("(11) 98765-4321");
+        return dto;
+    }
+
+    /**
+     * CPF formatado com dígitos verificadores calculados a partir dos 9 primeiros dígitos
+     */
+    private static String cpf(int base) {
+        int[] d = new int[11];
+        for (int i = 8, n = base; i >= 0; i--, n /= 10) {
+            d[i] = n % 10;
+        }
+        d[9] = verificador(d, 9);
+        d[10] = verificador(d, 10);
+        return String.format("%d%d%d.%d%d%d.%d%d%d-%d%d",
+                d[0], d[1], d[2], d[3], d[4], d[5], d[6], d[7], d[8], d[9], d[10]);
+    }
+
+    private static int verificador(int[] d, int quantidade) {
+        int soma = 0;
+        for (int i = 0; i < quantidade; i++) {
+            soma += d[i] * (quantidade + 1 - i);
+        }
+        int resto = soma * 10 % 11;
+        return resto == 10 ? 0 : resto;
+    }
+}
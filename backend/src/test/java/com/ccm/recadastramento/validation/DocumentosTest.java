@@ -0,0 +1,97 @@
+package com.ccm.recadastramento.validation;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentosTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"529.982.247-25", "111.444.777-35", "123.456.789-09", "000.000.001-91", "987.654.321-00"})
+    void cpfValido(String cpf) {
+        assertThat(Documentos.cpfValido(cpf)).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "529.982.247-35   | primeiro dígito verificador errado",
+            "529.982.247-26   | segundo dígito verificador errado",
+            "123.456.789-90   | dígitos verificadores trocados",
+            "000.000.000-00   | todos os dígitos iguais",
+            "111.111.111-11   | todos os dígitos iguais",
+            "999.999.999-99   | todos os dígitos iguais",
+            "529-982.247.25   | separadores trocados",
+            "5299.82.247-25   | ponto fora do lugar",
+            "529.982.24725-   | hífen fora do lugar",
+            "529 982 247 25   | espaços no lugar dos separadores",
+            "52998224725      | só os dígitos",
+            "529.98a.247-25   | letra",
+            "529.982.247-2/   | caractere logo após o '9'",
+            "529.982.247-2    | curto",
+            "529.982.247-255  | longo",
+    })
+    void cpfInvalido(String cpf, String motivo) {
+        assertThat(Documentos.cpfValido(cpf)).as(motivo).isFalse();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void cpfVazio(String cpf) {
+        assertThat(Documentos.cpfValido(cpf)).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "529.982.247-25   | 52998224725",
+            "52998224725      | 52998224725",
+            "000.000.001-91   | 191",
+            "00000000191      | 191",
+            // Não confere os dígitos verificadores
+            "529.982.247-00   | 52998224700",
+            "5299.8224-7.25   | 52998224725",
+            // -1: quantidade de dígitos errada ou caractere fora de dígitos, ponto e hífen
+            "5299822472       | -1",
+            "529982247250     | -1",
+            "529.982.247-2    | -1",
+            "...-             | -1",
+            "529.982.247/25   | -1",
+            "529 982 247 25   | -1",
+            "529.982.247-2a   | -1",
+    })
+    void cpfNumerico(String cpf, long esperado) {
+        assertThat(Documentos.cpfNumerico(cpf)).isEqualTo(esperado);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void cpfNumericoVazio(String cpf) {
+        assertThat(Documentos.cpfNumerico(cpf)).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(11) 98765-4321", "(00) 00000-0000", "(99) 99999-9999"})
+    void telefoneValido(String telefone) {
+        assertThat(Documentos.telefoneValido(telefone)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "(11)98765-4321",
+            "(11) 9876-54321",
+            "11 98765-4321",
+            "(11) 98765 4321",
+            "[11] 98765-4321",
+            "(1a) 98765-4321",
+            "(11) 98765-432x",
+            "(11) 98765-432",
+            "(11) 98765-43210",
+            "(11) 3876-4321",
+            "",
+    })
+    void telefoneInvalido(String telefone) {
+        assertThat(Documentos.telefoneValido(telefone)).isFalse();
+    }
+}